@@ -1,9 +1,8 @@
 package com.chess;
 
+import com.chess.board.Board;
 import com.chess.board.BoardUtils;
-import com.chess.player.BlackPlayer;
 import com.chess.player.Player;
-import com.chess.player.WhitePlayer;
 
 public enum PieceType {
     WHITE{
@@ -32,8 +31,13 @@ public enum PieceType {
         }
 
         @Override
-        public Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer){
-            return whitePlayer;
+        public Player choosePlayer(final Board board){
+            return board.getWhitePlayer();
+        }
+
+        @Override
+        public PieceType opposite(){
+            return BLACK;
         }
     },
     BLACK{
@@ -62,8 +66,13 @@ public enum PieceType {
         }
 
         @Override
-        public Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer){
-            return blackPlayer;
+        public Player choosePlayer(final Board board){
+            return board.getBlackPlayer();
+        }
+
+        @Override
+        public PieceType opposite(){
+            return WHITE;
         }
     };
     public abstract int getDirection();
@@ -72,5 +81,7 @@ public enum PieceType {
     public abstract boolean isWhite();
     public abstract boolean isPawnPromotionSquare(int position);
 
-    public abstract Player choosePlayer(WhitePlayer whitePlayer, BlackPlayer blackPlayer);
+    public abstract Player choosePlayer(final Board board);
+
+    public abstract PieceType opposite();
 }
@@ -0,0 +1,49 @@
+package com.chess.board;
+
+import com.chess.PieceType;
+import com.chess.pieces.Piece;
+
+public final class Attacks {
+
+    private static final int PAWN = Piece.PieceConfig.PAWN.ordinal();
+    private static final int KNIGHT = Piece.PieceConfig.KNIGHT.ordinal();
+    private static final int BISHOP = Piece.PieceConfig.BISHOP.ordinal();
+    private static final int ROOK = Piece.PieceConfig.ROOK.ordinal();
+    private static final int QUEEN = Piece.PieceConfig.QUEEN.ordinal();
+    private static final int KING = Piece.PieceConfig.KING.ordinal();
+    private static final int BLACK = Piece.PieceConfig.values().length;
+
+    private Attacks(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static boolean isSquareAttacked(final long[] bitboards,
+                                           final long occupancy,
+                                           final int square,
+                                           final PieceType attacker) {
+        final int offset = attacker.isWhite() ? 0 : BLACK;
+        if((BoardUtils.PAWN_ATTACKS[attacker.opposite().ordinal()][square] & bitboards[offset + PAWN]) != 0
+                || (BoardUtils.KNIGHT_ATTACKS[square] & bitboards[offset + KNIGHT]) != 0
+                || (BoardUtils.KING_ATTACKS[square] & bitboards[offset + KING]) != 0){
+            return true;
+        }
+        final long queens = bitboards[offset + QUEEN];
+        final long diagonals = bitboards[offset + BISHOP] | queens;
+        if(diagonals != 0 && (MagicBitboards.bishopAttacks(square, occupancy) & diagonals) != 0){
+            return true;
+        }
+        final long orthogonals = bitboards[offset + ROOK] | queens;
+        return orthogonals != 0 && (MagicBitboards.rookAttacks(square, occupancy) & orthogonals) != 0;
+    }
+
+    public static long attackersOf(final long[] bitboards, final long occupancy, final int square) {
+        final long diagonals = bitboards[BISHOP] | bitboards[QUEEN] | bitboards[BLACK + BISHOP] | bitboards[BLACK + QUEEN];
+        final long orthogonals = bitboards[ROOK] | bitboards[QUEEN] | bitboards[BLACK + ROOK] | bitboards[BLACK + QUEEN];
+        return (BoardUtils.PAWN_ATTACKS[PieceType.BLACK.ordinal()][square] & bitboards[PAWN])
+                | (BoardUtils.PAWN_ATTACKS[PieceType.WHITE.ordinal()][square] & bitboards[BLACK + PAWN])
+                | (BoardUtils.KNIGHT_ATTACKS[square] & (bitboards[KNIGHT] | bitboards[BLACK + KNIGHT]))
+                | (BoardUtils.KING_ATTACKS[square] & (bitboards[KING] | bitboards[BLACK + KING]))
+                | (MagicBitboards.bishopAttacks(square, occupancy) & diagonals)
+                | (MagicBitboards.rookAttacks(square, occupancy) & orthogonals);
+    }
+}
@@ -12,44 +12,108 @@ import java.util.*;
 
 public class Board {
 
-    private final List<ChessTile> board;
+    private static final ThreadLocal<IntMoveList> MOVE_BUFFER = new ThreadLocal<IntMoveList>(){
+        @Override
+        protected IntMoveList initialValue() {
+            return new IntMoveList();
+        }
+    };
+
+    private final ChessTile[] board;
+    private final long[] pieceBitboards;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
+    private final long allOccupancy;
     private final List<Piece> whitePieces;
     private final List<Piece> blackPieces;
 
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    private final PieceType nextMoveMaker;
     private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+    private final int halfmoveClock;
+    private final int fullmoveNumber;
+    private final int middlegameScore;
+    private final int endgameScore;
+    private final int gamePhase;
+
+    private volatile List<Move> whiteMoves;
+    private volatile List<Move> blackMoves;
+    private volatile WhitePlayer whitePlayer;
+    private volatile BlackPlayer blackPlayer;
+    private volatile GameStatus gameStatus;
+    private volatile MoveIndex whiteMoveIndex;
+    private volatile MoveIndex blackMoveIndex;
+    private volatile long[] legalOrigins;
 
     private Board(Builder builder){
         this.board = createBoard(builder);
-        this.whitePieces = calculateActivePieces(this.board, PieceType.WHITE);
-        this.blackPieces = calculateActivePieces(this.board, PieceType.BLACK);
-
-        final List<Move> whiteMoves = calculateLegalMoves(this.whitePieces);
-        final List<Move> blackMoves = calculateLegalMoves(this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteMoves, blackMoves);
-        this.blackPlayer = new BlackPlayer(this, blackMoves, whiteMoves);
-
-        this.currentPlayer = builder.nextPieceType.choosePlayer(this.whitePlayer, this.blackPlayer);
+        this.pieceBitboards = createBitboards(builder);
+        this.whiteOccupancy = calculateOccupancy(this.pieceBitboards, PieceType.WHITE);
+        this.blackOccupancy = calculateOccupancy(this.pieceBitboards, PieceType.BLACK);
+        this.allOccupancy = this.whiteOccupancy | this.blackOccupancy;
+        this.whitePieces = calculateActivePieces(this.whiteOccupancy);
+        this.blackPieces = calculateActivePieces(this.blackOccupancy);
+        this.nextMoveMaker = builder.nextPieceType;
         this.enPassantPawn = builder.enPassantPawn;
+        this.castlingRights = calculateCastlingRights();
+        this.zobristKey = builder.hasZobristKey ? builder.zobristKey : Zobrist.calculateKey(this);
+        this.halfmoveClock = builder.halfmoveClock;
+        this.fullmoveNumber = builder.fullmoveNumber;
+        this.middlegameScore = builder.hasEvaluation ? builder.middlegameScore : PieceSquareTables.calculateMiddlegameScore(this);
+        this.endgameScore = builder.hasEvaluation ? builder.endgameScore : PieceSquareTables.calculateEndgameScore(this);
+        this.gamePhase = PieceSquareTables.calculatePhase(this.pieceBitboards);
+    }
 
+    private int calculateCastlingRights() {
+        int rights = 0;
+        if(isUnmoved(60, PieceType.WHITE, Piece.PieceConfig.KING)){
+            rights |= isUnmoved(63, PieceType.WHITE, Piece.PieceConfig.ROOK) ? BoardUtils.WHITE_KING_SIDE : 0;
+            rights |= isUnmoved(56, PieceType.WHITE, Piece.PieceConfig.ROOK) ? BoardUtils.WHITE_QUEEN_SIDE : 0;
+        }
+        if(isUnmoved(4, PieceType.BLACK, Piece.PieceConfig.KING)){
+            rights |= isUnmoved(7, PieceType.BLACK, Piece.PieceConfig.ROOK) ? BoardUtils.BLACK_KING_SIDE : 0;
+            rights |= isUnmoved(0, PieceType.BLACK, Piece.PieceConfig.ROOK) ? BoardUtils.BLACK_QUEEN_SIDE : 0;
+        }
+        return rights;
+    }
+
+    private boolean isUnmoved(final int position, final PieceType pieceType, final Piece.PieceConfig pieceConfig) {
+        final Piece piece = getPiece(position);
+        return piece != null && piece.getPieceType() == pieceType
+                && piece.getPieceConfig() == pieceConfig && piece.isFirstMove();
     }
 
     private List<Move> calculateLegalMoves(List<Piece> pieces) {
-        final List<Move> legalMoves = new ArrayList<>();
+        final IntMoveList moves = MOVE_BUFFER.get();
+        moves.clear();
         for(final Piece piece: pieces){
-            legalMoves.addAll(piece.calcLegalMoves(this));
+            piece.generateMoves(this, moves);
+        }
+        final ImmutableList.Builder<Move> legalMoves = ImmutableList.builderWithExpectedSize(moves.size());
+        for(int i = 0 ; i < moves.size() ; i++){
+            legalMoves.add(PackedMove.toMove(this, moves.get(i)));
         }
-        return ImmutableList.copyOf(legalMoves);
+        return legalMoves.build();
+    }
+
+    public void generatePieceMoves(final PieceType pieceType, final IntMoveList moves) {
+        for(final Piece piece: pieceType.isWhite() ? this.whitePieces : this.blackPieces){
+            piece.generateMoves(this, moves);
+        }
+    }
+
+    public void generateLegalMoves(final PieceType pieceType, final IntMoveList moves) {
+        final int enPassantSquare = this.enPassantPawn == null || this.enPassantPawn.getPieceType() == pieceType ? Position.NO_SQUARE :
+                this.enPassantPawn.getPiecePosition() - this.enPassantPawn.getPieceType().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        LegalMoveGenerator.generate(this.pieceBitboards, pieceType, this.castlingRights, enPassantSquare, moves);
     }
 
     @Override
     public String toString(){
         final StringBuilder stringBuilder = new StringBuilder();
         for(int i = 0 ; i < BoardUtils.NUM_TILES ; i++){
-            final String tileText = prettyText(this.board.get(i));
+            final String tileText = prettyText(this.board[i]);
             stringBuilder.append(String.format("%3s", tileText));
             if((i+1) % BoardUtils.NUM_TILES_PER_ROW == 0){
                 stringBuilder.append("\n");
@@ -62,67 +126,83 @@ public class Board {
         return chessTile.toString();
     }
 
-    private List<Piece> calculateActivePieces(List<ChessTile> board, PieceType pieceType) {
-        final List<Piece> activePieces = new ArrayList<>();
-        for(final ChessTile tile: board){
-            if(tile.isTileOccupied()){
-                final Piece piece = tile.getPiece();
-                if(piece.getPieceType() == pieceType){
-                    activePieces.add(piece);
-                }
+    private List<Piece> calculateActivePieces(final long occupancy) {
+        final ImmutableList.Builder<Piece> activePieces = ImmutableList.builder();
+        long remaining = occupancy;
+        while(remaining != 0){
+            activePieces.add(this.board[Long.numberOfTrailingZeros(remaining)].getPiece());
+            remaining &= remaining - 1;
+        }
+        return activePieces.build();
+    }
+
+    private static long calculateOccupancy(final long[] pieceBitboards, final PieceType pieceType) {
+        long occupancy = 0L;
+        for(final Piece.PieceConfig pieceConfig: Piece.PieceConfig.values()){
+            occupancy |= pieceBitboards[BoardUtils.bitboardIndex(pieceType, pieceConfig)];
+        }
+        return occupancy;
+    }
+
+    private static long[] createBitboards(final Builder builder) {
+        final long[] pieceBitboards = new long[BoardUtils.NUM_BITBOARDS];
+        for(int i = 0 ; i < BoardUtils.NUM_TILES ; i++){
+            final Piece piece = builder.boardConfig[i];
+            if(piece != null){
+                pieceBitboards[BoardUtils.bitboardIndex(piece.getPieceType(), piece.getPieceConfig())] |= 1L << i;
             }
         }
-        return ImmutableList.copyOf(activePieces);
+        return pieceBitboards;
     }
 
-    private static List<ChessTile> createBoard(final Builder builder){
+    private static ChessTile[] createBoard(final Builder builder){
         final ChessTile[] chessTiles = new ChessTile[BoardUtils.NUM_TILES];
         for(int i = 0 ; i < BoardUtils.NUM_TILES ; i++){
-            chessTiles[i] = ChessTile.createChessTile(i, builder.boardConfig.get(i));
+            chessTiles[i] = ChessTile.createChessTile(i, builder.boardConfig[i]);
         }
-        return ImmutableList.copyOf(chessTiles);
+        return chessTiles;
     }
 
     public static Board createStandardBoard(){
         final Builder builder = new Builder();
-        builder.setPiece(new Rook(0, PieceType.BLACK));
-        builder.setPiece(new Knight(1, PieceType.BLACK));
-        builder.setPiece(new Bishop(2, PieceType.BLACK));
-        builder.setPiece(new Queen(3, PieceType.BLACK));
-        builder.setPiece(new King(4, PieceType.BLACK));
-        builder.setPiece(new Bishop(5, PieceType.BLACK));
-        builder.setPiece(new Knight(6, PieceType.BLACK));
-        builder.setPiece(new Rook(7, PieceType.BLACK));
-
-        builder.setPiece(new Pawn(8, PieceType.BLACK));
-        builder.setPiece(new Pawn(9, PieceType.BLACK));
-        builder.setPiece(new Pawn(10, PieceType.BLACK));
-        builder.setPiece(new Pawn(11, PieceType.BLACK));
-
-        builder.setPiece(new Pawn(12, PieceType.BLACK));
-        builder.setPiece(new Pawn(13, PieceType.BLACK));
-        builder.setPiece(new Pawn(14, PieceType.BLACK));
-        builder.setPiece(new Pawn(15, PieceType.BLACK));
-
-
-        builder.setPiece(new Rook(56, PieceType.WHITE));
-        builder.setPiece(new Knight(57, PieceType.WHITE));
-        builder.setPiece(new Bishop(58, PieceType.WHITE));
-        builder.setPiece(new Queen(59, PieceType.WHITE));
-        builder.setPiece(new King(60, PieceType.WHITE));
-        builder.setPiece(new Bishop(61, PieceType.WHITE));
-        builder.setPiece(new Knight(62, PieceType.WHITE));
-        builder.setPiece(new Rook(63, PieceType.WHITE));
-
-        builder.setPiece(new Pawn(48, PieceType.WHITE));
-        builder.setPiece(new Pawn(49, PieceType.WHITE));
-        builder.setPiece(new Pawn(50, PieceType.WHITE));
-        builder.setPiece(new Pawn(51, PieceType.WHITE));
-
-        builder.setPiece(new Pawn(52, PieceType.WHITE));
-        builder.setPiece(new Pawn(53, PieceType.WHITE));
-        builder.setPiece(new Pawn(54, PieceType.WHITE));
-        builder.setPiece(new Pawn(55, PieceType.WHITE));
+        builder.setPiece(PieceCache.rook(0, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.knight(1, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.bishop(2, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.queen(3, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.king(4, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.bishop(5, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.knight(6, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.rook(7, PieceType.BLACK, true));
+
+        builder.setPiece(PieceCache.pawn(8, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(9, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(10, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(11, PieceType.BLACK, true));
+
+        builder.setPiece(PieceCache.pawn(12, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(13, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(14, PieceType.BLACK, true));
+        builder.setPiece(PieceCache.pawn(15, PieceType.BLACK, true));
+
+
+        builder.setPiece(PieceCache.rook(56, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.knight(57, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.bishop(58, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.queen(59, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.king(60, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.bishop(61, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.knight(62, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.rook(63, PieceType.WHITE, true));
+
+        builder.setPiece(PieceCache.pawn(48, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(49, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(50, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(51, PieceType.WHITE, true));
+
+        builder.setPiece(PieceCache.pawn(52, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(53, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(54, PieceType.WHITE, true));
+        builder.setPiece(PieceCache.pawn(55, PieceType.WHITE, true));
 
         builder.setPieceType(PieceType.WHITE);
 
@@ -131,7 +211,39 @@ public class Board {
     }
 
     public ChessTile getTile(int position) {
-        return board.get(position);
+        return this.board[position];
+    }
+
+    public Piece getPiece(final int position) {
+        return (this.allOccupancy & (1L << position)) == 0 ? null : this.board[position].getPiece();
+    }
+
+    public long getBitboard(final PieceType pieceType, final Piece.PieceConfig pieceConfig) {
+        return this.pieceBitboards[BoardUtils.bitboardIndex(pieceType, pieceConfig)];
+    }
+
+    public long getOccupancy(final PieceType pieceType) {
+        return pieceType.isWhite() ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    public long getOccupancy() {
+        return this.allOccupancy;
+    }
+
+    public boolean isSquareAttacked(final int position, final PieceType attacker) {
+        return Attacks.isSquareAttacked(this.pieceBitboards, this.allOccupancy, position, attacker);
+    }
+
+    public long attackersOf(final int position) {
+        return Attacks.attackersOf(this.pieceBitboards, this.allOccupancy, position);
+    }
+
+    public long attackersOf(final int position, final long occupancy) {
+        return Attacks.attackersOf(this.pieceBitboards, occupancy, position);
+    }
+
+    public boolean isTileOccupied(final int position) {
+        return (this.allOccupancy & (1L << position)) != 0;
     }
 
     public List<Piece> getWhitePieces() {
@@ -143,36 +255,161 @@ public class Board {
     }
 
     public Player getWhitePlayer() {
-        return this.whitePlayer;
+        WhitePlayer player = this.whitePlayer;
+        if(player == null){
+            player = new WhitePlayer(this);
+            this.whitePlayer = player;
+        }
+        return player;
     }
 
     public Player getBlackPlayer() {
-        return this.blackPlayer;
+        BlackPlayer player = this.blackPlayer;
+        if(player == null){
+            player = new BlackPlayer(this);
+            this.blackPlayer = player;
+        }
+        return player;
     }
 
     public Player currentPlayer() {
-        return this.currentPlayer;
+        return this.nextMoveMaker.choosePlayer(this);
+    }
+
+    public GameStatus getGameStatus() {
+        GameStatus status = this.gameStatus;
+        if(status == null){
+            status = GameStatus.of(currentPlayer());
+            this.gameStatus = status;
+        }
+        return status;
+    }
+
+    public List<Move> getPieceMoves(final PieceType pieceType) {
+        if(pieceType.isWhite()){
+            List<Move> moves = this.whiteMoves;
+            if(moves == null){
+                moves = calculateLegalMoves(this.whitePieces);
+                this.whiteMoves = moves;
+            }
+            return moves;
+        }
+        List<Move> moves = this.blackMoves;
+        if(moves == null){
+            moves = calculateLegalMoves(this.blackPieces);
+            this.blackMoves = moves;
+        }
+        return moves;
     }
 
     public Iterable<Move> getAllLegalMoves() {
-       return Iterables.unmodifiableIterable(Iterables.concat(this.whitePlayer.getLegalMoves(), this.blackPlayer.getLegalMoves()));
+       return Iterables.unmodifiableIterable(Iterables.concat(getWhitePlayer().getLegalMoves(), getBlackPlayer().getLegalMoves()));
+    }
+
+    public Move findMove(final int currentPosition, final int destinationPosition) {
+        return findMove(currentPosition, destinationPosition, null);
+    }
+
+    public Move findMove(final int currentPosition, final int destinationPosition, final Piece.PieceConfig promotion) {
+        final Piece movedPiece = BoardUtils.isValidTilePosition(currentPosition) ? getPiece(currentPosition) : null;
+        if(movedPiece == null){
+            return Move.NULL_MOVE;
+        }
+        return findMove(movedPiece.getPieceType(), currentPosition, destinationPosition, promotion);
+    }
+
+    public Move findMove(final PieceType pieceType,
+                         final int currentPosition,
+                         final int destinationPosition,
+                         final Piece.PieceConfig promotion) {
+        MoveIndex index = pieceType.isWhite() ? this.whiteMoveIndex : this.blackMoveIndex;
+        if(index == null){
+            index = new MoveIndex(pieceType.isWhite() ? getWhitePlayer().getLegalMoves() : getBlackPlayer().getLegalMoves());
+            if(pieceType.isWhite()){
+                this.whiteMoveIndex = index;
+            }else{
+                this.blackMoveIndex = index;
+            }
+        }
+        return index.find(currentPosition, destinationPosition, promotion);
+    }
+
+    public long getLegalOrigins(final Piece.PieceConfig pieceConfig, final int destinationPosition) {
+        long[] origins = this.legalOrigins;
+        if(origins == null){
+            origins = calculateLegalOrigins();
+            this.legalOrigins = origins;
+        }
+        return origins[pieceConfig.ordinal() * BoardUtils.NUM_TILES + destinationPosition];
+    }
+
+    private long[] calculateLegalOrigins() {
+        final long[] origins = new long[Piece.PieceConfig.values().length * BoardUtils.NUM_TILES];
+        final IntMoveList moves = MOVE_BUFFER.get();
+        moves.clear();
+        generateLegalMoves(this.nextMoveMaker, moves);
+        for(int i = 0 ; i < moves.size() ; i++){
+            final int from = PackedMove.getFrom(moves.get(i));
+            origins[getPiece(from).getPieceConfig().ordinal() * BoardUtils.NUM_TILES + PackedMove.getTo(moves.get(i))] |= 1L << from;
+        }
+        return origins;
     }
 
     public Pawn getEnPassantPawn() {
         return this.enPassantPawn;
     }
 
+    public PieceType getNextMoveMaker() {
+        return this.nextMoveMaker;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public int getHalfmoveClock() {
+        return this.halfmoveClock;
+    }
+
+    public int getFullmoveNumber() {
+        return this.fullmoveNumber;
+    }
+
+    public int getMiddlegameScore() {
+        return this.middlegameScore;
+    }
+
+    public int getEndgameScore() {
+        return this.endgameScore;
+    }
+
+    public int getGamePhase() {
+        return this.gamePhase;
+    }
+
     public static class Builder{
-        Map<Integer, Piece> boardConfig;
+        final Piece[] boardConfig;
         PieceType nextPieceType;
         Pawn enPassantPawn;
+        long zobristKey;
+        boolean hasZobristKey;
+        int halfmoveClock;
+        int fullmoveNumber;
+        int middlegameScore;
+        int endgameScore;
+        boolean hasEvaluation;
 
         public Builder(){
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+            this.fullmoveNumber = 1;
         }
 
         public Builder setPiece(final Piece piece){
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            this.boardConfig[piece.getPiecePosition()] = piece;
             return this;
         }
 
@@ -188,5 +425,28 @@ public class Board {
         public void setEnPassantPawn(Pawn pawn) {
             this.enPassantPawn = pawn;
         }
+
+        public Builder setHalfmoveClock(final int halfmoveClock) {
+            this.halfmoveClock = halfmoveClock;
+            return this;
+        }
+
+        public Builder setFullmoveNumber(final int fullmoveNumber) {
+            this.fullmoveNumber = fullmoveNumber;
+            return this;
+        }
+
+        public Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            this.hasZobristKey = true;
+            return this;
+        }
+
+        public Builder setEvaluation(final int middlegameScore, final int endgameScore) {
+            this.middlegameScore = middlegameScore;
+            this.endgameScore = endgameScore;
+            this.hasEvaluation = true;
+            return this;
+        }
     }
 }
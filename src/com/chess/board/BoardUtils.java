@@ -1,5 +1,9 @@
 package com.chess.board;
 
+import com.chess.PieceType;
+import com.chess.pieces.Piece;
+
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,6 +27,30 @@ public class BoardUtils {
     public static final boolean[] SECOND_RANK = initRow(48);
     public static final boolean[] FIRST_RANK = initRow(56);
 
+    public static final long[] KNIGHT_ATTACKS = initLeaperAttacks(new int[][]{
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}});
+    public static final long[] KING_ATTACKS = initLeaperAttacks(new int[][]{
+            {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}});
+    public static final long[][] PAWN_ATTACKS = {
+            initLeaperAttacks(new int[][]{{-1, -1}, {-1, 1}}),
+            initLeaperAttacks(new int[][]{{1, -1}, {1, 1}})};
+    public static final long[][] PAWN_PUSHES = {
+            initLeaperAttacks(new int[][]{{-1, 0}}),
+            initLeaperAttacks(new int[][]{{1, 0}})};
+    public static final long[][] PAWN_JUMPS = {
+            initPawnJumps(SECOND_RANK, -2),
+            initPawnJumps(SEVENTH_RANK, 2)};
+
+    public static final long[][] SQUARES_BETWEEN = initLines(false);
+    public static final long[][] LINE_THROUGH = initLines(true);
+
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+    public static final int ALL_CASTLING_RIGHTS = WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE;
+    public static final int[] CASTLING_MASKS = initCastlingMasks();
+
     public static final String[] ALGEBRIC_NOTATION = initAlgebricNotation();
     public static final Map<String, Integer> POSITION_TO_COORDINATE = initPositionToCoordinateMap();
 
@@ -48,6 +76,78 @@ public class BoardUtils {
         return finalArray;
     }
 
+    private static long[][] initLines(final boolean fullLine) {
+        final long[][] lines = new long[NUM_TILES][NUM_TILES];
+        final int[][] directions = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+        for(int from = 0 ; from < NUM_TILES ; from++){
+            for(final int[] direction: directions){
+                long between = 0L;
+                int row = from / NUM_TILES_PER_ROW + direction[0];
+                int column = from % NUM_TILES_PER_ROW + direction[1];
+                while(row >= 0 && row < NUM_TILES_PER_ROW && column >= 0 && column < NUM_TILES_PER_ROW){
+                    final int to = row * NUM_TILES_PER_ROW + column;
+                    lines[from][to] = fullLine ?
+                            ray(from, direction[0], direction[1]) | ray(from, -direction[0], -direction[1]) | (1L << from) : between;
+                    between |= 1L << to;
+                    row += direction[0];
+                    column += direction[1];
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static long ray(final int from, final int rowStep, final int columnStep) {
+        long ray = 0L;
+        int row = from / NUM_TILES_PER_ROW + rowStep;
+        int column = from % NUM_TILES_PER_ROW + columnStep;
+        while(row >= 0 && row < NUM_TILES_PER_ROW && column >= 0 && column < NUM_TILES_PER_ROW){
+            ray |= 1L << (row * NUM_TILES_PER_ROW + column);
+            row += rowStep;
+            column += columnStep;
+        }
+        return ray;
+    }
+
+    private static int[] initCastlingMasks() {
+        final int[] masks = new int[NUM_TILES];
+        Arrays.fill(masks, ALL_CASTLING_RIGHTS);
+        masks[60] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        masks[63] &= ~WHITE_KING_SIDE;
+        masks[56] &= ~WHITE_QUEEN_SIDE;
+        masks[4] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        masks[7] &= ~BLACK_KING_SIDE;
+        masks[0] &= ~BLACK_QUEEN_SIDE;
+        return masks;
+    }
+
+    private static long[] initLeaperAttacks(final int[][] offsets) {
+        final long[] attacks = new long[NUM_TILES];
+        for(int position = 0 ; position < NUM_TILES ; position++){
+            final int row = position / NUM_TILES_PER_ROW;
+            final int column = position % NUM_TILES_PER_ROW;
+            for(final int[] offset: offsets){
+                final int destinationRow = row + offset[0];
+                final int destinationColumn = column + offset[1];
+                if(destinationRow >= 0 && destinationRow < NUM_TILES_PER_ROW
+                        && destinationColumn >= 0 && destinationColumn < NUM_TILES_PER_ROW){
+                    attacks[position] |= 1L << (destinationRow * NUM_TILES_PER_ROW + destinationColumn);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static long[] initPawnJumps(final boolean[] startingRank, final int rowOffset) {
+        final long[] jumps = new long[NUM_TILES];
+        for(int position = 0 ; position < NUM_TILES ; position++){
+            if(startingRank[position]){
+                jumps[position] = 1L << (position + rowOffset * NUM_TILES_PER_ROW);
+            }
+        }
+        return jumps;
+    }
+
     private static boolean[] initRow(int rowNum){
         final boolean[] rows = new boolean[NUM_TILES];
         do{
@@ -69,11 +169,16 @@ public class BoardUtils {
 
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
+    public static final int NUM_BITBOARDS = 12;
 
     public static boolean isValidTilePosition(int position) {
         return position >= 0 && position < NUM_TILES;
     }
 
+    public static int bitboardIndex(final PieceType pieceType, final Piece.PieceConfig pieceConfig) {
+        return pieceType.ordinal() * Piece.PieceConfig.values().length + pieceConfig.ordinal();
+    }
+
     private BoardUtils(){
         throw new RuntimeException("Cannot instantiate this");
     }
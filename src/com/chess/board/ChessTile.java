@@ -1,26 +1,30 @@
 package com.chess.board;
 
 import com.chess.pieces.Piece;
-import com.google.common.collect.ImmutableMap;
-
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import com.chess.pieces.PieceCache;
 
 import static com.chess.board.BoardUtils.NUM_TILES;
 
 public abstract class ChessTile {
     protected final int tileCoordinate;
-    private static final Map<Integer, EmptyTile> EMPTY_TILE_MAP = createAllEmptyTiles();
+    private static final EmptyTile[] EMPTY_TILES = createAllEmptyTiles();
+    private static final OccupiedTile[] OCCUPIED_TILES = createAllOccupiedTiles();
 
-    private static Map<Integer, EmptyTile> createAllEmptyTiles() {
-        Map<Integer, EmptyTile> emptyTileMap = new HashMap<Integer, EmptyTile>();
+    private static EmptyTile[] createAllEmptyTiles() {
+        final EmptyTile[] emptyTiles = new EmptyTile[NUM_TILES];
         for(int i = 0 ; i < NUM_TILES ; i++){
-            emptyTileMap.put(i, new EmptyTile(i));
+            emptyTiles[i] = new EmptyTile(i);
         }
-        return Collections.unmodifiableMap(emptyTileMap);
-//        return ImmutableMap.copyOf(emptyTileMap);
+        return emptyTiles;
+    }
+
+    private static OccupiedTile[] createAllOccupiedTiles() {
+        final OccupiedTile[] occupiedTiles = new OccupiedTile[PieceCache.NUM_PIECES];
+        for(int i = 0 ; i < PieceCache.NUM_PIECES ; i++){
+            final Piece piece = PieceCache.get(i);
+            occupiedTiles[i] = new OccupiedTile(piece.getPiecePosition(), piece);
+        }
+        return occupiedTiles;
     }
 
     public int getTileCoordinate(){
@@ -29,10 +33,13 @@ public abstract class ChessTile {
 
     public static ChessTile createChessTile(final int tileCoordinate, final Piece piece){
         if(piece == null){
-            return EMPTY_TILE_MAP.get(tileCoordinate);
-        }else{
-            return new OccupiedTile(tileCoordinate, piece);
+            return EMPTY_TILES[tileCoordinate];
+        }
+        final OccupiedTile occupiedTile = OCCUPIED_TILES[PieceCache.indexOf(piece)];
+        if(occupiedTile.getPiece() == piece && tileCoordinate == piece.getPiecePosition()){
+            return occupiedTile;
         }
+        return new OccupiedTile(tileCoordinate, piece);
     }
 
     private ChessTile(int tileCoordinate){
@@ -0,0 +1,64 @@
+package com.chess.board;
+
+import com.chess.player.Player;
+
+public enum GameStatus {
+    ONGOING{
+        @Override
+        public boolean isCheck(){
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver(){
+            return false;
+        }
+    },
+    CHECK{
+        @Override
+        public boolean isCheck(){
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver(){
+            return false;
+        }
+    },
+    CHECKMATE{
+        @Override
+        public boolean isCheck(){
+            return true;
+        }
+
+        @Override
+        public boolean isGameOver(){
+            return true;
+        }
+    },
+    STALEMATE{
+        @Override
+        public boolean isCheck(){
+            return false;
+        }
+
+        @Override
+        public boolean isGameOver(){
+            return true;
+        }
+    }
+    ;
+    public abstract boolean isCheck();
+    public abstract boolean isGameOver();
+
+    static GameStatus of(final Player player) {
+        if(player.isInCheckMate()){
+            return CHECKMATE;
+        }else if(player.isInStaleMate()){
+            return STALEMATE;
+        }else if(player.isInChecked()){
+            return CHECK;
+        }
+        return ONGOING;
+    }
+}
@@ -0,0 +1,70 @@
+package com.chess.board;
+
+import java.util.Arrays;
+
+public final class IntMoveList {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private int[] moves;
+    private int size;
+
+    public IntMoveList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntMoveList(final int capacity) {
+        this.moves = new int[capacity];
+        this.size = 0;
+    }
+
+    public void add(final int move) {
+        if(this.size == this.moves.length){
+            this.moves = Arrays.copyOf(this.moves, this.moves.length * 2);
+        }
+        this.moves[this.size++] = move;
+    }
+
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    public void set(final int index, final int move) {
+        this.moves[index] = move;
+    }
+
+    public void swap(final int first, final int second) {
+        final int move = this.moves[first];
+        this.moves[first] = this.moves[second];
+        this.moves[second] = move;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public void clear() {
+        this.size = 0;
+    }
+
+    public void truncate(final int size) {
+        this.size = size;
+    }
+
+    public boolean contains(final int move) {
+        for(int i = 0 ; i < this.size ; i++){
+            if(this.moves[i] == move){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(this.moves, this.size);
+    }
+}
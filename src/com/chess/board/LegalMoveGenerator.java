@@ -0,0 +1,220 @@
+package com.chess.board;
+
+import com.chess.PieceType;
+import com.chess.pieces.Piece;
+
+public final class LegalMoveGenerator {
+
+    private static final int PAWN = Piece.PieceConfig.PAWN.ordinal();
+    private static final int KNIGHT = Piece.PieceConfig.KNIGHT.ordinal();
+    private static final int BISHOP = Piece.PieceConfig.BISHOP.ordinal();
+    private static final int ROOK = Piece.PieceConfig.ROOK.ordinal();
+    private static final int QUEEN = Piece.PieceConfig.QUEEN.ordinal();
+    private static final int KING = Piece.PieceConfig.KING.ordinal();
+    private static final int NUM_CONFIGS = Piece.PieceConfig.values().length;
+
+    private LegalMoveGenerator(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    static void generate(final long[] bitboards,
+                         final PieceType us,
+                         final int castlingRights,
+                         final int enPassantSquare,
+                         final IntMoveList moves) {
+        final int ownOffset = us.ordinal() * NUM_CONFIGS;
+        final int enemyOffset = us.opposite().ordinal() * NUM_CONFIGS;
+        final long own = occupancy(bitboards, ownOffset);
+        final long enemies = occupancy(bitboards, enemyOffset);
+        final long all = own | enemies;
+        final long kingBit = bitboards[ownOffset + KING];
+        if(kingBit == 0){
+            return;
+        }
+        final int king = Long.numberOfTrailingZeros(kingBit);
+        final long enemyDiagonals = bitboards[enemyOffset + BISHOP] | bitboards[enemyOffset + QUEEN];
+        final long enemyOrthogonals = bitboards[enemyOffset + ROOK] | bitboards[enemyOffset + QUEEN];
+
+        final long checkers = (BoardUtils.PAWN_ATTACKS[us.ordinal()][king] & bitboards[enemyOffset + PAWN])
+                | (BoardUtils.KNIGHT_ATTACKS[king] & bitboards[enemyOffset + KNIGHT])
+                | (MagicBitboards.bishopAttacks(king, all) & enemyDiagonals)
+                | (MagicBitboards.rookAttacks(king, all) & enemyOrthogonals);
+
+        long kingTargets = BoardUtils.KING_ATTACKS[king] & ~own;
+        while(kingTargets != 0){
+            final int to = Long.numberOfTrailingZeros(kingTargets);
+            if(!Attacks.isSquareAttacked(bitboards, all ^ kingBit, to, us.opposite())){
+                moves.add(PackedMove.create(king, to, (enemies & (1L << to)) != 0 ? PackedMove.CAPTURE : PackedMove.QUIET));
+            }
+            kingTargets &= kingTargets - 1;
+        }
+        if(Long.bitCount(checkers) > 1){
+            return;
+        }
+
+        final long checkMask = checkers == 0 ? -1L :
+                checkers | BoardUtils.SQUARES_BETWEEN[king][Long.numberOfTrailingZeros(checkers)];
+        final long pinned = calculatePinned(king, own, all,
+                MagicBitboards.bishopAttacks(king, enemies) & enemyDiagonals,
+                MagicBitboards.rookAttacks(king, enemies) & enemyOrthogonals);
+
+        generatePawnMoves(bitboards, us, ownOffset, enemyOffset, king, enemies, all, checkMask, pinned, enPassantSquare, moves);
+
+        long knights = bitboards[ownOffset + KNIGHT] & ~pinned;
+        while(knights != 0){
+            final int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, BoardUtils.KNIGHT_ATTACKS[from] & ~own & checkMask, enemies, moves);
+            knights &= knights - 1;
+        }
+        long diagonals = bitboards[ownOffset + BISHOP] | bitboards[ownOffset + QUEEN];
+        while(diagonals != 0){
+            final int from = Long.numberOfTrailingZeros(diagonals);
+            addMoves(from, MagicBitboards.bishopAttacks(from, all) & ~own & checkMask & pinRay(king, from, pinned), enemies, moves);
+            diagonals &= diagonals - 1;
+        }
+        long orthogonals = bitboards[ownOffset + ROOK] | bitboards[ownOffset + QUEEN];
+        while(orthogonals != 0){
+            final int from = Long.numberOfTrailingZeros(orthogonals);
+            addMoves(from, MagicBitboards.rookAttacks(from, all) & ~own & checkMask & pinRay(king, from, pinned), enemies, moves);
+            orthogonals &= orthogonals - 1;
+        }
+        if(checkers == 0){
+            generateCastles(bitboards, us, king, all, castlingRights, moves);
+        }
+    }
+
+    private static long calculatePinned(final int king,
+                                        final long own,
+                                        final long all,
+                                        final long diagonalPinners,
+                                        final long orthogonalPinners) {
+        long pinned = 0L;
+        long pinners = diagonalPinners | orthogonalPinners;
+        while(pinners != 0){
+            final int pinner = Long.numberOfTrailingZeros(pinners);
+            final long between = BoardUtils.SQUARES_BETWEEN[king][pinner] & all;
+            if(Long.bitCount(between) == 1 && (between & own) != 0){
+                pinned |= between;
+            }
+            pinners &= pinners - 1;
+        }
+        return pinned;
+    }
+
+    private static long pinRay(final int king, final int from, final long pinned) {
+        return (pinned & (1L << from)) == 0 ? -1L : BoardUtils.LINE_THROUGH[king][from];
+    }
+
+    private static void generatePawnMoves(final long[] bitboards,
+                                          final PieceType us,
+                                          final int ownOffset,
+                                          final int enemyOffset,
+                                          final int king,
+                                          final long enemies,
+                                          final long all,
+                                          final long checkMask,
+                                          final long pinned,
+                                          final int enPassantSquare,
+                                          final IntMoveList moves) {
+        final int side = us.ordinal();
+        long pawns = bitboards[ownOffset + PAWN];
+        while(pawns != 0){
+            final int from = Long.numberOfTrailingZeros(pawns);
+            final long allowed = checkMask & pinRay(king, from, pinned);
+            final long push = BoardUtils.PAWN_PUSHES[side][from];
+            if(push != 0 && (push & all) == 0){
+                final int to = Long.numberOfTrailingZeros(push);
+                if((push & allowed) != 0){
+                    if(us.isPawnPromotionSquare(to)){
+                        addPromotions(from, to, false, moves);
+                    }else{
+                        moves.add(PackedMove.create(from, to, PackedMove.QUIET));
+                    }
+                }
+                final long jump = BoardUtils.PAWN_JUMPS[side][from];
+                if(jump != 0 && (jump & all) == 0 && (jump & allowed) != 0){
+                    moves.add(PackedMove.create(from, Long.numberOfTrailingZeros(jump), PackedMove.PAWN_JUMP));
+                }
+            }
+            final long attacks = BoardUtils.PAWN_ATTACKS[side][from];
+            long captures = attacks & enemies & allowed;
+            while(captures != 0){
+                final int to = Long.numberOfTrailingZeros(captures);
+                if(us.isPawnPromotionSquare(to)){
+                    addPromotions(from, to, true, moves);
+                }else{
+                    moves.add(PackedMove.create(from, to, PackedMove.CAPTURE));
+                }
+                captures &= captures - 1;
+            }
+            if(enPassantSquare != Position.NO_SQUARE && (attacks & (1L << enPassantSquare)) != 0
+                    && isLegalEnPassant(bitboards, us, enemyOffset, king, all, from, enPassantSquare)){
+                moves.add(PackedMove.create(from, enPassantSquare, PackedMove.EN_PASSANT));
+            }
+            pawns &= pawns - 1;
+        }
+    }
+
+    private static boolean isLegalEnPassant(final long[] bitboards,
+                                            final PieceType us,
+                                            final int enemyOffset,
+                                            final int king,
+                                            final long all,
+                                            final int from,
+                                            final int to) {
+        final long capturedBit = 1L << (to - us.getDirection() * BoardUtils.NUM_TILES_PER_ROW);
+        final long occupancy = (all ^ (1L << from) ^ capturedBit) | (1L << to);
+        final long enemyDiagonals = bitboards[enemyOffset + BISHOP] | bitboards[enemyOffset + QUEEN];
+        final long enemyOrthogonals = bitboards[enemyOffset + ROOK] | bitboards[enemyOffset + QUEEN];
+        return ((MagicBitboards.bishopAttacks(king, occupancy) & enemyDiagonals)
+                | (MagicBitboards.rookAttacks(king, occupancy) & enemyOrthogonals)
+                | (BoardUtils.KNIGHT_ATTACKS[king] & bitboards[enemyOffset + KNIGHT])
+                | (BoardUtils.PAWN_ATTACKS[us.ordinal()][king] & bitboards[enemyOffset + PAWN] & ~capturedBit)) == 0;
+    }
+
+    private static void generateCastles(final long[] bitboards,
+                                        final PieceType us,
+                                        final int king,
+                                        final long all,
+                                        final int castlingRights,
+                                        final IntMoveList moves) {
+        final int kingSide = us.isWhite() ? BoardUtils.WHITE_KING_SIDE : BoardUtils.BLACK_KING_SIDE;
+        final int queenSide = us.isWhite() ? BoardUtils.WHITE_QUEEN_SIDE : BoardUtils.BLACK_QUEEN_SIDE;
+        if((castlingRights & kingSide) != 0
+                && (all & ((1L << (king + 1)) | (1L << (king + 2)))) == 0
+                && !Attacks.isSquareAttacked(bitboards, all, king + 1, us.opposite())
+                && !Attacks.isSquareAttacked(bitboards, all, king + 2, us.opposite())){
+            moves.add(PackedMove.create(king, king + 2, PackedMove.KING_CASTLE));
+        }
+        if((castlingRights & queenSide) != 0
+                && (all & ((1L << (king - 1)) | (1L << (king - 2)) | (1L << (king - 3)))) == 0
+                && !Attacks.isSquareAttacked(bitboards, all, king - 1, us.opposite())
+                && !Attacks.isSquareAttacked(bitboards, all, king - 2, us.opposite())){
+            moves.add(PackedMove.create(king, king - 2, PackedMove.QUEEN_CASTLE));
+        }
+    }
+
+    private static void addMoves(final int from, final long destinations, final long enemies, final IntMoveList moves) {
+        long remaining = destinations;
+        while(remaining != 0){
+            final int to = Long.numberOfTrailingZeros(remaining);
+            moves.add(PackedMove.create(from, to, (enemies & (1L << to)) != 0 ? PackedMove.CAPTURE : PackedMove.QUIET));
+            remaining &= remaining - 1;
+        }
+    }
+
+    private static void addPromotions(final int from, final int to, final boolean capture, final IntMoveList moves) {
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.QUEEN));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.ROOK));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.BISHOP));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.KNIGHT));
+    }
+
+    private static long occupancy(final long[] bitboards, final int offset) {
+        long occupancy = 0L;
+        for(int i = offset ; i < offset + NUM_CONFIGS ; i++){
+            occupancy |= bitboards[i];
+        }
+        return occupancy;
+    }
+}
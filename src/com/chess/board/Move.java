@@ -3,6 +3,7 @@ package com.chess.board;
 import com.chess.PieceType;
 import com.chess.pieces.Pawn;
 import com.chess.pieces.Piece;
+import com.chess.pieces.PieceCache;
 import com.chess.pieces.Rook;
 
 public abstract class Move {
@@ -78,13 +79,59 @@ public abstract class Move {
         }
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setPieceType(this.board.currentPlayer().getOpponent().getPieceType());
+        setMoveCounters(builder);
+        setEvaluation(builder);
+        builder.setZobristKey(calculateZobristKey());
         return builder.build();
     }
 
+    protected void setMoveCounters(final Board.Builder builder){
+        final boolean resetsClock = this.movedPiece.getPieceConfig() == Piece.PieceConfig.PAWN || isAttack();
+        builder.setHalfmoveClock(resetsClock ? 0 : this.board.getHalfmoveClock() + 1);
+        builder.setFullmoveNumber(this.board.getFullmoveNumber() + (this.board.getNextMoveMaker().isBlack() ? 1 : 0));
+    }
+
+    protected void setEvaluation(final Board.Builder builder){
+        int middlegameScore = this.board.getMiddlegameScore()
+                - PieceSquareTables.middlegame(this.movedPiece, getCurrentPosition())
+                + PieceSquareTables.middlegame(this.movedPiece, this.destinationPosition);
+        int endgameScore = this.board.getEndgameScore()
+                - PieceSquareTables.endgame(this.movedPiece, getCurrentPosition())
+                + PieceSquareTables.endgame(this.movedPiece, this.destinationPosition);
+        final Piece attackedPiece = getAttackedPiece();
+        if(attackedPiece != null){
+            middlegameScore -= PieceSquareTables.middlegame(attackedPiece, attackedPiece.getPiecePosition());
+            endgameScore -= PieceSquareTables.endgame(attackedPiece, attackedPiece.getPiecePosition());
+        }
+        builder.setEvaluation(middlegameScore, endgameScore);
+    }
+
+    protected long calculateZobristKey(){
+        long key = this.board.getZobristKey() ^ Zobrist.sideKey()
+                ^ Zobrist.pieceKey(this.movedPiece, getCurrentPosition())
+                ^ Zobrist.pieceKey(this.movedPiece, this.destinationPosition);
+        final Piece attackedPiece = getAttackedPiece();
+        if(attackedPiece != null){
+            key ^= Zobrist.pieceKey(attackedPiece, attackedPiece.getPiecePosition());
+        }
+        final Pawn enPassantPawn = this.board.getEnPassantPawn();
+        if(enPassantPawn != null){
+            key ^= Zobrist.enPassantKey(enPassantPawn.getPiecePosition());
+        }
+        final int castlingRights = this.board.getCastlingRights();
+        return key ^ Zobrist.castlingKey(castlingRights) ^ Zobrist.castlingKey(castlingRights
+                & BoardUtils.CASTLING_MASKS[getCurrentPosition()] & BoardUtils.CASTLING_MASKS[this.destinationPosition]);
+    }
+
     public boolean isAttack(){
         return false;
     }
 
+    @Override
+    public String toString(){
+        return SanNotation.encode(this);
+    }
+
     public boolean isCastlingMove(){
         return false;
     }
@@ -105,11 +152,6 @@ public abstract class Move {
         public boolean equals(final Object other){
             return this == other || (other instanceof NormalMove && super.equals(other));
         }
-
-        @Override
-        public String toString(){
-            return movedPiece.getPieceConfig().toString() + BoardUtils.getPositionAtCoordinate(this.destinationPosition);
-        }
     }
 
     public static class AttackMove extends Move{
@@ -160,11 +202,6 @@ public abstract class Move {
         public boolean equals(Object other) {
             return this == other || other instanceof NormalAttackMove && super.equals(other);
         }
-
-        @Override
-        public String toString() {
-            return movedPiece.getPieceConfig() + BoardUtils.getPositionAtCoordinate(this.destinationPosition);
-        }
     }
 
     public static final class PawnMove extends Move{
@@ -177,11 +214,6 @@ public abstract class Move {
         public boolean equals(Object other) {
             return this == other || (other instanceof PawnMove && super.equals(other));
         }
-
-        @Override
-        public String toString() {
-            return BoardUtils.getPositionAtCoordinate(this.destinationPosition);
-        }
     }
 
     public static class PawnAttackMove extends AttackMove{
@@ -194,12 +226,6 @@ public abstract class Move {
         public boolean equals(Object other) {
             return this == other || other instanceof PawnAttackMove && super.equals(other);
         }
-
-        @Override
-        public String toString() {
-            return BoardUtils.getPositionAtCoordinate(this.movedPiece.getPiecePosition()).substring(0, 1) + "x"
-                    + BoardUtils.getPositionAtCoordinate(this.destinationPosition);
-        }
     }
 
     public static final class PawnEnPassantAttackMove extends PawnAttackMove{
@@ -228,6 +254,9 @@ public abstract class Move {
             }
             builder.setPiece(this.movedPiece.movePiece(this));
             builder.setPieceType(this.board.currentPlayer().getOpponent().getPieceType());
+            setMoveCounters(builder);
+            setEvaluation(builder);
+            builder.setZobristKey(calculateZobristKey());
             return builder.build();
         }
     }
@@ -253,13 +282,11 @@ public abstract class Move {
             builder.setPiece(movedPawn);
             builder.setEnPassantPawn(movedPawn);
             builder.setPieceType(this.board.currentPlayer().getOpponent().getPieceType());
+            setMoveCounters(builder);
+            setEvaluation(builder);
+            builder.setZobristKey(calculateZobristKey() ^ Zobrist.enPassantKey(this.destinationPosition));
             return builder.build();
         }
-
-        @Override
-        public String toString() {
-            return BoardUtils.getPositionAtCoordinate(this.destinationPosition);
-        }
     }
 
     public static abstract class CastleMove extends Move{
@@ -301,12 +328,27 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
             builder.setPiece(this.movedPiece.movePiece(this));
-            // TODO
-            builder.setPiece(new Rook(this.castleRookDestination, this.castleRook.getPieceType()));
+            builder.setPiece(PieceCache.rook(this.castleRookDestination, this.castleRook.getPieceType(), false));
             builder.setPieceType(this.board.currentPlayer().getOpponent().getPieceType());
+            setMoveCounters(builder);
+            setEvaluation(builder);
+            builder.setZobristKey(calculateZobristKey()
+                    ^ Zobrist.pieceKey(this.castleRook, this.castleRookStart)
+                    ^ Zobrist.pieceKey(this.castleRook, this.castleRookDestination));
             return builder.build();
         }
 
+        @Override
+        protected void setEvaluation(final Board.Builder builder){
+            super.setEvaluation(builder);
+            builder.setEvaluation(builder.middlegameScore
+                            - PieceSquareTables.middlegame(this.castleRook, this.castleRookStart)
+                            + PieceSquareTables.middlegame(this.castleRook, this.castleRookDestination),
+                    builder.endgameScore
+                            - PieceSquareTables.endgame(this.castleRook, this.castleRookStart)
+                            + PieceSquareTables.endgame(this.castleRook, this.castleRookDestination));
+        }
+
         @Override
         public int hashCode(){
             final int prime = 31;
@@ -340,11 +382,6 @@ public abstract class Move {
             super(board, movedPiece, destinationPosition, castleRook, castleRookStart, castleRookDestination);
         }
 
-        @Override
-        public String toString(){
-            return "O-O";
-        }
-
         @Override
         public boolean equals(Object other){
             return this == other || (other instanceof KingSideCastleMove && super.equals(other));
@@ -362,11 +399,6 @@ public abstract class Move {
             super(board, movedPiece, destinationPosition, castleRook, castleRookStart, castleRookDestination);
         }
 
-        @Override
-        public String toString(){
-            return "O-O-O";
-        }
-
         @Override
         public boolean equals(Object other){
             return this == other || (other instanceof QueenSideCastleMove && super.equals(other));
@@ -377,11 +409,17 @@ public abstract class Move {
 
         final Move currentMove;
         final Pawn promotedPawn;
+        final Piece.PieceConfig promotionConfig;
 
         public PawnPromotion(final Move currentMove){
+            this(currentMove, Piece.PieceConfig.QUEEN);
+        }
+
+        public PawnPromotion(final Move currentMove, final Piece.PieceConfig promotionConfig){
             super(currentMove.getBoard(), currentMove.getMovedPiece(), currentMove.getDestinationPosition());
             this.currentMove = currentMove;
             this.promotedPawn = (Pawn) currentMove.getMovedPiece();
+            this.promotionConfig = promotionConfig;
         }
 
         @Override
@@ -397,19 +435,34 @@ public abstract class Move {
                 builder.setPiece(piece);
             }
             PieceType nextChance = this.promotedPawn.getPieceType().isWhite() ? PieceType.BLACK : PieceType.WHITE;
-            builder.setPiece(this.promotedPawn.getPromotionPiece().movePiece(this));
+            builder.setPiece(this.promotedPawn.getPromotionPiece(this.promotionConfig).movePiece(this));
             builder.setPieceType(nextChance);
+            setMoveCounters(builder);
+            builder.setZobristKey(pawnMovedBoard.getZobristKey()
+                    ^ Zobrist.pieceKey(this.promotedPawn, this.destinationPosition)
+                    ^ Zobrist.pieceKey(this.promotedPawn.getPieceType(), this.promotionConfig, this.destinationPosition));
+            builder.setEvaluation(pawnMovedBoard.getMiddlegameScore()
+                            - PieceSquareTables.middlegame(this.promotedPawn, this.destinationPosition)
+                            + PieceSquareTables.middlegame(this.promotedPawn.getPieceType(), this.promotionConfig, this.destinationPosition),
+                    pawnMovedBoard.getEndgameScore()
+                            - PieceSquareTables.endgame(this.promotedPawn, this.destinationPosition)
+                            + PieceSquareTables.endgame(this.promotedPawn.getPieceType(), this.promotionConfig, this.destinationPosition));
             return builder.build();
         }
 
+        public Piece.PieceConfig getPromotionConfig() {
+            return this.promotionConfig;
+        }
+
         @Override
         public int hashCode(){
-            return currentMove.hashCode() + (31 * promotedPawn.hashCode());
+            return currentMove.hashCode() + (31 * promotedPawn.hashCode()) + promotionConfig.hashCode();
         }
 
         @Override
         public boolean equals(final Object other){
-            return this == other || (other instanceof PawnPromotion && super.equals(other));
+            return this == other || (other instanceof PawnPromotion && super.equals(other)
+                    && this.promotionConfig == ((PawnPromotion) other).getPromotionConfig());
         }
 
         @Override
@@ -421,11 +474,6 @@ public abstract class Move {
         public Piece getAttackedPiece() {
             return this.currentMove.getAttackedPiece();
         }
-
-        @Override
-        public String toString(){
-            return "";
-        }
     }
 
     public static final class  NullMove extends Move{
@@ -452,13 +500,14 @@ public abstract class Move {
         }
 
         public static Move createMove(final Board board, final int currentPosition, final int destinationPosition){
-            for(final Move move: board.getAllLegalMoves()){
-                if(move.getCurrentPosition() == currentPosition
-                && move.getDestinationPosition() == destinationPosition){
-                    return move;
-                }
-            }
-            return NULL_MOVE;
+            return board.findMove(currentPosition, destinationPosition);
+        }
+
+        public static Move createMove(final Board board,
+                                      final int currentPosition,
+                                      final int destinationPosition,
+                                      final Piece.PieceConfig promotion){
+            return board.findMove(currentPosition, destinationPosition, promotion);
         }
     }
 
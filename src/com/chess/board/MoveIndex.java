@@ -0,0 +1,53 @@
+package com.chess.board;
+
+import com.chess.pieces.Piece;
+
+import java.util.List;
+
+final class MoveIndex {
+
+    private static final int MAX_PROMOTIONS = 4;
+
+    private final List<Move> moves;
+    private final short[] slots;
+
+    MoveIndex(final List<Move> legalMoves) {
+        this.moves = legalMoves;
+        this.slots = new short[BoardUtils.NUM_TILES * BoardUtils.NUM_TILES];
+        for(int i = this.moves.size() - 1 ; i >= 0 ; i--){
+            final Move move = this.moves.get(i);
+            this.slots[key(move.getCurrentPosition(), move.getDestinationPosition())] = (short) (i + 1);
+        }
+    }
+
+    Move find(final int currentPosition, final int destinationPosition, final Piece.PieceConfig promotion) {
+        if(!BoardUtils.isValidTilePosition(currentPosition) || !BoardUtils.isValidTilePosition(destinationPosition)){
+            return Move.NULL_MOVE;
+        }
+        final int slot = this.slots[key(currentPosition, destinationPosition)] - 1;
+        if(slot < 0){
+            return Move.NULL_MOVE;
+        }
+        final Move move = this.moves.get(slot);
+        if(promotion == null){
+            return move;
+        }
+        if(!(move instanceof Move.PawnPromotion)){
+            return Move.NULL_MOVE;
+        }
+        for(int i = slot ; i < Math.min(slot + MAX_PROMOTIONS, this.moves.size()) ; i++){
+            final Move candidate = this.moves.get(i);
+            if(candidate instanceof Move.PawnPromotion
+                    && candidate.getCurrentPosition() == currentPosition
+                    && candidate.getDestinationPosition() == destinationPosition
+                    && ((Move.PawnPromotion) candidate).getPromotionConfig() == promotion){
+                return candidate;
+            }
+        }
+        return Move.NULL_MOVE;
+    }
+
+    private static int key(final int currentPosition, final int destinationPosition) {
+        return currentPosition * BoardUtils.NUM_TILES + destinationPosition;
+    }
+}
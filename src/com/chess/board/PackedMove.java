@@ -0,0 +1,113 @@
+package com.chess.board;
+
+import com.chess.pieces.Piece;
+import com.chess.pieces.Rook;
+
+public final class PackedMove {
+
+    public static final int NO_MOVE = 0;
+
+    public static final int QUIET = 0;
+    public static final int PAWN_JUMP = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8;
+    public static final int PROMOTION_CAPTURE = 12;
+
+    private static final Piece.PieceConfig[] PROMOTION_CONFIGS = {
+            Piece.PieceConfig.KNIGHT, Piece.PieceConfig.BISHOP, Piece.PieceConfig.ROOK, Piece.PieceConfig.QUEEN};
+
+    private PackedMove(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static int create(final int from, final int to, final int flags) {
+        return from | (to << 6) | (flags << 12);
+    }
+
+    public static int createPromotion(final int from, final int to, final boolean capture, final Piece.PieceConfig promotionConfig) {
+        return create(from, to, (capture ? PROMOTION_CAPTURE : PROMOTION) | (promotionConfig.ordinal() - 1));
+    }
+
+    public static int getFrom(final int move) {
+        return move & 0x3F;
+    }
+
+    public static int getTo(final int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int getFlags(final int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    public static boolean isCapture(final int move) {
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+
+    public static boolean isPromotion(final int move) {
+        return (getFlags(move) & PROMOTION) != 0;
+    }
+
+    public static boolean isCastle(final int move) {
+        final int flags = getFlags(move);
+        return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+    }
+
+    public static Piece.PieceConfig getPromotionConfig(final int move) {
+        return isPromotion(move) ? PROMOTION_CONFIGS[getFlags(move) & 3] : null;
+    }
+
+    public static int fromMove(final Move move) {
+        final int from = move.getCurrentPosition();
+        final int to = move.getDestinationPosition();
+        if(move instanceof Move.PawnPromotion){
+            return createPromotion(from, to, move.isAttack(), ((Move.PawnPromotion) move).getPromotionConfig());
+        }else if(move instanceof Move.KingSideCastleMove){
+            return create(from, to, KING_CASTLE);
+        }else if(move instanceof Move.QueenSideCastleMove){
+            return create(from, to, QUEEN_CASTLE);
+        }else if(move instanceof Move.PawnEnPassantAttackMove){
+            return create(from, to, EN_PASSANT);
+        }else if(move instanceof Move.PawnJump){
+            return create(from, to, PAWN_JUMP);
+        }
+        return create(from, to, move.isAttack() ? CAPTURE : QUIET);
+    }
+
+    public static Move toMove(final Board board, final int move) {
+        final int from = getFrom(move);
+        final int to = getTo(move);
+        final Piece movedPiece = board.getPiece(from);
+        switch(getFlags(move)){
+            case QUIET:
+                return movedPiece.getPieceConfig() == Piece.PieceConfig.PAWN ?
+                        new Move.PawnMove(board, movedPiece, to) : new Move.NormalMove(board, movedPiece, to);
+            case PAWN_JUMP:
+                return new Move.PawnJump(board, movedPiece, to);
+            case KING_CASTLE:
+                return new Move.KingSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(from + 3), from + 3, from + 1);
+            case QUEEN_CASTLE:
+                return new Move.QueenSideCastleMove(board, movedPiece, to, (Rook) board.getPiece(from - 4), from - 4, from - 1);
+            case CAPTURE:
+                return movedPiece.getPieceConfig() == Piece.PieceConfig.PAWN ?
+                        new Move.PawnAttackMove(board, movedPiece, to, board.getPiece(to)) :
+                        new Move.NormalAttackMove(board, movedPiece, to, board.getPiece(to));
+            case EN_PASSANT:
+                return new Move.PawnEnPassantAttackMove(board, movedPiece, to, board.getEnPassantPawn());
+            default:
+                final Move pawnMove = isCapture(move) ?
+                        new Move.PawnAttackMove(board, movedPiece, to, board.getPiece(to)) :
+                        new Move.PawnMove(board, movedPiece, to);
+                return new Move.PawnPromotion(pawnMove, getPromotionConfig(move));
+        }
+    }
+
+    public static String toString(final int move) {
+        final Piece.PieceConfig promotionConfig = getPromotionConfig(move);
+        return BoardUtils.getPositionAtCoordinate(getFrom(move)) + BoardUtils.getPositionAtCoordinate(getTo(move))
+                + (promotionConfig == null ? "" : promotionConfig.getPieceName().toLowerCase());
+    }
+}
@@ -0,0 +1,342 @@
+package com.chess.board;
+
+import com.chess.PieceType;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Piece;
+import com.chess.pieces.PieceCache;
+
+import java.util.Arrays;
+
+public final class Position {
+
+    public static final int EMPTY = -1;
+    public static final int NO_SQUARE = -1;
+
+    private static final int NUM_CONFIGS = Piece.PieceConfig.values().length;
+    private static final int PAWN = Piece.PieceConfig.PAWN.ordinal();
+    private static final int KING = Piece.PieceConfig.KING.ordinal();
+
+    private final long[] bitboards;
+    private final long[] occupancy;
+    private final int[] squares;
+    private PieceType sideToMove;
+    private int castlingRights;
+    private int enPassantSquare;
+
+    private long[] history;
+    private int ply;
+
+    public Position(final Board board) {
+        this.bitboards = new long[BoardUtils.NUM_BITBOARDS];
+        this.occupancy = new long[PieceType.values().length];
+        this.squares = new int[BoardUtils.NUM_TILES];
+        this.history = new long[64];
+        Arrays.fill(this.squares, EMPTY);
+        for(final PieceType pieceType: PieceType.values()){
+            for(final Piece.PieceConfig pieceConfig: Piece.PieceConfig.values()){
+                long pieces = board.getBitboard(pieceType, pieceConfig);
+                while(pieces != 0){
+                    putPiece(BoardUtils.bitboardIndex(pieceType, pieceConfig), Long.numberOfTrailingZeros(pieces));
+                    pieces &= pieces - 1;
+                }
+            }
+        }
+        this.sideToMove = board.getNextMoveMaker();
+        this.castlingRights = board.getCastlingRights();
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        this.enPassantSquare = enPassantPawn == null ? NO_SQUARE :
+                enPassantPawn.getPiecePosition() - enPassantPawn.getPieceType().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+    }
+
+    public void makeMove(final Move move) {
+        final int promotion = move instanceof Move.PawnPromotion ?
+                BoardUtils.bitboardIndex(this.sideToMove, ((Move.PawnPromotion) move).getPromotionConfig()) : EMPTY;
+        makeMove(move.getCurrentPosition(), move.getDestinationPosition(), promotion);
+    }
+
+    public void makeMove(final int move) {
+        final Piece.PieceConfig promotionConfig = PackedMove.getPromotionConfig(move);
+        makeMove(PackedMove.getFrom(move), PackedMove.getTo(move),
+                promotionConfig == null ? EMPTY : BoardUtils.bitboardIndex(this.sideToMove, promotionConfig));
+    }
+
+    public void makeMove(final int from, final int to, final int promotion) {
+        final int moved = this.squares[from];
+        int captureSquare = to;
+        if(moved % NUM_CONFIGS == PAWN && to == this.enPassantSquare){
+            captureSquare = to - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+        }
+        final int captured = this.squares[captureSquare];
+        pushHistory(from, to, moved, captured, captureSquare);
+
+        if(captured != EMPTY){
+            removePiece(captured, captureSquare);
+        }
+        removePiece(moved, from);
+        putPiece(promotion == EMPTY ? moved : promotion, to);
+
+        if(moved % NUM_CONFIGS == KING && Math.abs(to - from) == 2){
+            final int rook = moved - KING + Piece.PieceConfig.ROOK.ordinal();
+            final int rookFrom = to > from ? from + 3 : from - 4;
+            final int rookTo = to > from ? from + 1 : from - 1;
+            removePiece(rook, rookFrom);
+            putPiece(rook, rookTo);
+        }
+
+        this.enPassantSquare = moved % NUM_CONFIGS == PAWN && Math.abs(to - from) == 2 * BoardUtils.NUM_TILES_PER_ROW ?
+                (from + to) / 2 : NO_SQUARE;
+        this.castlingRights &= BoardUtils.CASTLING_MASKS[from] & BoardUtils.CASTLING_MASKS[to];
+        this.sideToMove = this.sideToMove.opposite();
+    }
+
+    public void unmakeMove() {
+        final long record = this.history[--this.ply];
+        final int from = (int) (record & 0x3F);
+        final int to = (int) ((record >>> 6) & 0x3F);
+        final int moved = (int) ((record >>> 12) & 0xF);
+        final int captured = (int) ((record >>> 16) & 0xF) - 1;
+        final int captureSquare = (int) ((record >>> 20) & 0x3F);
+        this.castlingRights = (int) ((record >>> 26) & 0xF);
+        this.enPassantSquare = (int) ((record >>> 30) & 0x7F) - 1;
+        this.sideToMove = this.sideToMove.opposite();
+
+        if(moved % NUM_CONFIGS == KING && Math.abs(to - from) == 2){
+            final int rook = moved - KING + Piece.PieceConfig.ROOK.ordinal();
+            final int rookFrom = to > from ? from + 3 : from - 4;
+            final int rookTo = to > from ? from + 1 : from - 1;
+            removePiece(rook, rookTo);
+            putPiece(rook, rookFrom);
+        }
+        removePiece(this.squares[to], to);
+        putPiece(moved, from);
+        if(captured != EMPTY){
+            putPiece(captured, captureSquare);
+        }
+    }
+
+    public void generateLegalMoves(final IntMoveList moves) {
+        LegalMoveGenerator.generate(this.bitboards, this.sideToMove, this.castlingRights, this.enPassantSquare, moves);
+    }
+
+    public void generateMoves(final IntMoveList moves) {
+        final PieceType us = this.sideToMove;
+        final long own = this.occupancy[us.ordinal()];
+        final long enemies = this.occupancy[us.opposite().ordinal()];
+        final long all = own | enemies;
+        generatePawnMoves(us, enemies, all, moves);
+        long knights = getBitboard(us, Piece.PieceConfig.KNIGHT);
+        while(knights != 0){
+            final int from = Long.numberOfTrailingZeros(knights);
+            addMoves(from, BoardUtils.KNIGHT_ATTACKS[from] & ~own, enemies, moves);
+            knights &= knights - 1;
+        }
+        long diagonals = getBitboard(us, Piece.PieceConfig.BISHOP) | getBitboard(us, Piece.PieceConfig.QUEEN);
+        while(diagonals != 0){
+            final int from = Long.numberOfTrailingZeros(diagonals);
+            addMoves(from, MagicBitboards.bishopAttacks(from, all) & ~own, enemies, moves);
+            diagonals &= diagonals - 1;
+        }
+        long orthogonals = getBitboard(us, Piece.PieceConfig.ROOK) | getBitboard(us, Piece.PieceConfig.QUEEN);
+        while(orthogonals != 0){
+            final int from = Long.numberOfTrailingZeros(orthogonals);
+            addMoves(from, MagicBitboards.rookAttacks(from, all) & ~own, enemies, moves);
+            orthogonals &= orthogonals - 1;
+        }
+        final long king = getBitboard(us, Piece.PieceConfig.KING);
+        if(king != 0){
+            final int from = Long.numberOfTrailingZeros(king);
+            addMoves(from, BoardUtils.KING_ATTACKS[from] & ~own, enemies, moves);
+            generateCastles(us, from, all, moves);
+        }
+    }
+
+    public boolean isSquareAttacked(final int square, final PieceType attacker) {
+        return Attacks.isSquareAttacked(this.bitboards, getOccupancy(), square, attacker);
+    }
+
+    public long attackersOf(final int square) {
+        return Attacks.attackersOf(this.bitboards, getOccupancy(), square);
+    }
+
+    public boolean isInCheck(final PieceType pieceType) {
+        final long king = getBitboard(pieceType, Piece.PieceConfig.KING);
+        return king != 0 && isSquareAttacked(Long.numberOfTrailingZeros(king), pieceType.opposite());
+    }
+
+    private void generatePawnMoves(final PieceType us, final long enemies, final long all, final IntMoveList moves) {
+        final int side = us.ordinal();
+        long pawns = getBitboard(us, Piece.PieceConfig.PAWN);
+        while(pawns != 0){
+            final int from = Long.numberOfTrailingZeros(pawns);
+            final long push = BoardUtils.PAWN_PUSHES[side][from];
+            if(push != 0 && (push & all) == 0){
+                final int to = Long.numberOfTrailingZeros(push);
+                if(us.isPawnPromotionSquare(to)){
+                    addPromotions(from, to, false, moves);
+                }else{
+                    moves.add(PackedMove.create(from, to, PackedMove.QUIET));
+                }
+                final long jump = BoardUtils.PAWN_JUMPS[side][from];
+                if(jump != 0 && (jump & all) == 0){
+                    moves.add(PackedMove.create(from, Long.numberOfTrailingZeros(jump), PackedMove.PAWN_JUMP));
+                }
+            }
+            final long attacks = BoardUtils.PAWN_ATTACKS[side][from];
+            long captures = attacks & enemies;
+            while(captures != 0){
+                final int to = Long.numberOfTrailingZeros(captures);
+                if(us.isPawnPromotionSquare(to)){
+                    addPromotions(from, to, true, moves);
+                }else{
+                    moves.add(PackedMove.create(from, to, PackedMove.CAPTURE));
+                }
+                captures &= captures - 1;
+            }
+            if(this.enPassantSquare != NO_SQUARE && (attacks & (1L << this.enPassantSquare)) != 0){
+                moves.add(PackedMove.create(from, this.enPassantSquare, PackedMove.EN_PASSANT));
+            }
+            pawns &= pawns - 1;
+        }
+    }
+
+    private void generateCastles(final PieceType us, final int from, final long all, final IntMoveList moves) {
+        final int kingSide = us.isWhite() ? BoardUtils.WHITE_KING_SIDE : BoardUtils.BLACK_KING_SIDE;
+        final int queenSide = us.isWhite() ? BoardUtils.WHITE_QUEEN_SIDE : BoardUtils.BLACK_QUEEN_SIDE;
+        if((this.castlingRights & (kingSide | queenSide)) == 0 || isSquareAttacked(from, us.opposite())){
+            return;
+        }
+        if((this.castlingRights & kingSide) != 0
+                && (all & ((1L << (from + 1)) | (1L << (from + 2)))) == 0
+                && !isSquareAttacked(from + 1, us.opposite())
+                && !isSquareAttacked(from + 2, us.opposite())){
+            moves.add(PackedMove.create(from, from + 2, PackedMove.KING_CASTLE));
+        }
+        if((this.castlingRights & queenSide) != 0
+                && (all & ((1L << (from - 1)) | (1L << (from - 2)) | (1L << (from - 3)))) == 0
+                && !isSquareAttacked(from - 1, us.opposite())
+                && !isSquareAttacked(from - 2, us.opposite())){
+            moves.add(PackedMove.create(from, from - 2, PackedMove.QUEEN_CASTLE));
+        }
+    }
+
+    private static void addMoves(final int from, final long destinations, final long enemies, final IntMoveList moves) {
+        long remaining = destinations;
+        while(remaining != 0){
+            final int to = Long.numberOfTrailingZeros(remaining);
+            moves.add(PackedMove.create(from, to, (enemies & (1L << to)) != 0 ? PackedMove.CAPTURE : PackedMove.QUIET));
+            remaining &= remaining - 1;
+        }
+    }
+
+    private static void addPromotions(final int from, final int to, final boolean capture, final IntMoveList moves) {
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.QUEEN));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.ROOK));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.BISHOP));
+        moves.add(PackedMove.createPromotion(from, to, capture, Piece.PieceConfig.KNIGHT));
+    }
+
+    public Board toBoard() {
+        final Board.Builder builder = new Board.Builder();
+        for(int square = 0 ; square < BoardUtils.NUM_TILES ; square++){
+            if(this.squares[square] != EMPTY){
+                builder.setPiece(createPiece(this.squares[square], square));
+            }
+        }
+        if(this.enPassantSquare != NO_SQUARE){
+            final int pawnSquare = this.enPassantSquare - this.sideToMove.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            builder.setEnPassantPawn((Pawn) createPiece(this.squares[pawnSquare], pawnSquare));
+        }
+        builder.setPieceType(this.sideToMove);
+        return builder.build();
+    }
+
+    public int getPiece(final int square) {
+        return this.squares[square];
+    }
+
+    public long getBitboard(final PieceType pieceType, final Piece.PieceConfig pieceConfig) {
+        return this.bitboards[BoardUtils.bitboardIndex(pieceType, pieceConfig)];
+    }
+
+    public long getOccupancy(final PieceType pieceType) {
+        return this.occupancy[pieceType.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return this.occupancy[0] | this.occupancy[1];
+    }
+
+    public PieceType getSideToMove() {
+        return this.sideToMove;
+    }
+
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+
+    private void pushHistory(final int from, final int to, final int moved, final int captured, final int captureSquare) {
+        if(this.ply == this.history.length){
+            this.history = Arrays.copyOf(this.history, this.history.length * 2);
+        }
+        this.history[this.ply++] = from
+                | ((long) to << 6)
+                | ((long) moved << 12)
+                | ((long) (captured + 1) << 16)
+                | ((long) captureSquare << 20)
+                | ((long) this.castlingRights << 26)
+                | ((long) (this.enPassantSquare + 1) << 30);
+    }
+
+    private void putPiece(final int piece, final int square) {
+        final long bit = 1L << square;
+        this.bitboards[piece] |= bit;
+        this.occupancy[piece / NUM_CONFIGS] |= bit;
+        this.squares[square] = piece;
+    }
+
+    private void removePiece(final int piece, final int square) {
+        final long bit = ~(1L << square);
+        this.bitboards[piece] &= bit;
+        this.occupancy[piece / NUM_CONFIGS] &= bit;
+        this.squares[square] = EMPTY;
+    }
+
+    private Piece createPiece(final int piece, final int square) {
+        final PieceType pieceType = PieceType.values()[piece / NUM_CONFIGS];
+        switch(Piece.PieceConfig.values()[piece % NUM_CONFIGS]){
+            case PAWN:
+                return PieceCache.pawn(square, pieceType, pieceType.isWhite() ?
+                        BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square]);
+            case KNIGHT:
+                return PieceCache.knight(square, pieceType, false);
+            case BISHOP:
+                return PieceCache.bishop(square, pieceType, false);
+            case ROOK:
+                return PieceCache.rook(square, pieceType, hasRookCastlingRight(square));
+            case QUEEN:
+                return PieceCache.queen(square, pieceType, false);
+            default:
+                return PieceCache.king(square, pieceType, pieceType.isWhite() ?
+                        (this.castlingRights & (BoardUtils.WHITE_KING_SIDE | BoardUtils.WHITE_QUEEN_SIDE)) != 0 :
+                        (this.castlingRights & (BoardUtils.BLACK_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE)) != 0);
+        }
+    }
+
+    private boolean hasRookCastlingRight(final int square) {
+        switch(square){
+            case 63: return (this.castlingRights & BoardUtils.WHITE_KING_SIDE) != 0;
+            case 56: return (this.castlingRights & BoardUtils.WHITE_QUEEN_SIDE) != 0;
+            case 7: return (this.castlingRights & BoardUtils.BLACK_KING_SIDE) != 0;
+            case 0: return (this.castlingRights & BoardUtils.BLACK_QUEEN_SIDE) != 0;
+            default: return false;
+        }
+    }
+}
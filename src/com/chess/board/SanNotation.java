@@ -0,0 +1,172 @@
+package com.chess.board;
+
+import com.chess.PieceType;
+import com.chess.pieces.Piece;
+
+public final class SanNotation {
+
+    private static final long FIRST_FILE = 0x0101010101010101L;
+    private static final long FIRST_ROW = 0xFFL;
+
+    private SanNotation(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static String encode(final Move move) {
+        final Board board = move.getBoard();
+        if(board == null){
+            return "";
+        }
+        if(move.isCastlingMove()){
+            return move instanceof Move.KingSideCastleMove ? "O-O" : "O-O-O";
+        }
+        final StringBuilder san = new StringBuilder(8);
+        final Piece movedPiece = move.getMovedPiece();
+        final int from = move.getCurrentPosition();
+        final int to = move.getDestinationPosition();
+        final Piece.PieceConfig movedConfig = movedPiece.getPieceConfig();
+        if(movedConfig != Piece.PieceConfig.PAWN){
+            san.append(movedConfig.getPieceName());
+            if(movedPiece.getPieceType() == board.getNextMoveMaker()){
+                final long others = board.getLegalOrigins(movedConfig, to) & ~(1L << from);
+                if(others != 0){
+                    final int column = from % BoardUtils.NUM_TILES_PER_ROW;
+                    final int row = from / BoardUtils.NUM_TILES_PER_ROW;
+                    if((others & (FIRST_FILE << column)) == 0){
+                        san.append(fileName(column));
+                    }else if((others & (FIRST_ROW << (row * BoardUtils.NUM_TILES_PER_ROW))) == 0){
+                        san.append(rankName(row));
+                    }else{
+                        san.append(fileName(column)).append(rankName(row));
+                    }
+                }
+            }
+        }else if(move.isAttack()){
+            san.append(fileName(from % BoardUtils.NUM_TILES_PER_ROW));
+        }
+        if(move.isAttack()){
+            san.append('x');
+        }
+        san.append(fileName(to % BoardUtils.NUM_TILES_PER_ROW)).append(rankName(to / BoardUtils.NUM_TILES_PER_ROW));
+        if(move instanceof Move.PawnPromotion){
+            san.append('=').append(((Move.PawnPromotion) move).getPromotionConfig().getPieceName());
+        }
+        return san.toString();
+    }
+
+    public static String encode(final Move move, final Board transitionBoard) {
+        final GameStatus status = transitionBoard.getGameStatus();
+        final String san = encode(move);
+        return status == GameStatus.CHECKMATE ? san + "#" : status.isCheck() ? san + "+" : san;
+    }
+
+    public static Move parse(final Board board, final CharSequence san) {
+        int end = san.length();
+        while(end > 0 && isSuffix(san.charAt(end - 1))){
+            end--;
+        }
+        final PieceType mover = board.getNextMoveMaker();
+        if(isCastle(san, end, 2) || isCastle(san, end, 3)){
+            final long king = board.getBitboard(mover, Piece.PieceConfig.KING);
+            if(king == 0){
+                return Move.NULL_MOVE;
+            }
+            final int from = Long.numberOfTrailingZeros(king);
+            final int to = end == 3 ? from + 2 : from - 2;
+            return to >= 0 && (board.getLegalOrigins(Piece.PieceConfig.KING, to) & king) != 0 ?
+                    board.findMove(mover, from, to, null) : Move.NULL_MOVE;
+        }
+        Piece.PieceConfig promotion = null;
+        if(end > 0 && isPromotionPiece(san.charAt(end - 1))){
+            promotion = pieceConfig(san.charAt(end - 1));
+            end--;
+            if(end > 0 && san.charAt(end - 1) == '='){
+                end--;
+            }
+        }
+        if(end < 2){
+            return Move.NULL_MOVE;
+        }
+        final int destination = square(san.charAt(end - 2), san.charAt(end - 1));
+        if(destination < 0){
+            return Move.NULL_MOVE;
+        }
+        int start = 0;
+        Piece.PieceConfig movedConfig = Piece.PieceConfig.PAWN;
+        if(pieceConfig(san.charAt(0)) != null){
+            movedConfig = pieceConfig(san.charAt(0));
+            start = 1;
+        }
+        if(promotion != null && movedConfig != Piece.PieceConfig.PAWN){
+            return Move.NULL_MOVE;
+        }
+        long origins = board.getLegalOrigins(movedConfig, destination);
+        for(int i = start ; i < end - 2 ; i++){
+            final char symbol = san.charAt(i);
+            if(symbol >= 'a' && symbol <= 'h'){
+                origins &= FIRST_FILE << (symbol - 'a');
+            }else if(symbol >= '1' && symbol <= '8'){
+                origins &= FIRST_ROW << (('8' - symbol) * BoardUtils.NUM_TILES_PER_ROW);
+            }else if(symbol != 'x' && symbol != ':' && symbol != '-'){
+                return Move.NULL_MOVE;
+            }
+        }
+        if(Long.bitCount(origins) != 1){
+            return Move.NULL_MOVE;
+        }
+        final Move move = board.findMove(mover, Long.numberOfTrailingZeros(origins), destination, promotion);
+        if(promotion != null && !(move instanceof Move.PawnPromotion
+                && ((Move.PawnPromotion) move).getPromotionConfig() == promotion)){
+            return Move.NULL_MOVE;
+        }
+        return move;
+    }
+
+    private static boolean isCastle(final CharSequence san, final int end, final int sides) {
+        if(end != sides * 2 - 1){
+            return false;
+        }
+        for(int i = 0 ; i < end ; i++){
+            final char symbol = san.charAt(i);
+            if(i % 2 == 0 ? symbol != 'O' && symbol != '0' : symbol != '-'){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int square(final char file, final char rank) {
+        if(file < 'a' || file > 'h' || rank < '1' || rank > '8'){
+            return -1;
+        }
+        return ('8' - rank) * BoardUtils.NUM_TILES_PER_ROW + (file - 'a');
+    }
+
+    private static char fileName(final int column) {
+        return (char) ('a' + column);
+    }
+
+    private static char rankName(final int row) {
+        return (char) ('8' - row);
+    }
+
+    private static boolean isSuffix(final char symbol) {
+        return symbol == '+' || symbol == '#' || symbol == '!' || symbol == '?';
+    }
+
+    private static boolean isPromotionPiece(final char symbol) {
+        return symbol == 'N' || symbol == 'B' || symbol == 'R' || symbol == 'Q';
+    }
+
+    private static Piece.PieceConfig pieceConfig(final char symbol) {
+        switch(symbol){
+            case 'P': return Piece.PieceConfig.PAWN;
+            case 'N': return Piece.PieceConfig.KNIGHT;
+            case 'B': return Piece.PieceConfig.BISHOP;
+            case 'R': return Piece.PieceConfig.ROOK;
+            case 'Q': return Piece.PieceConfig.QUEEN;
+            case 'K': return Piece.PieceConfig.KING;
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.chess.board;
+
+import java.util.Arrays;
+
+public final class TranspositionTable {
+
+    public static final long NO_ENTRY = 0L;
+
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    private static final int BUCKET_SIZE = 4;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int MAX_AGE = 63;
+    private static final long MAX_BUCKETS = 1L << 27;
+
+    private final long[] entries;
+    private final long bucketMask;
+    private volatile int age;
+
+    public TranspositionTable(final int megabytes) {
+        final long bytes = Math.max(1L, megabytes) * 1024L * 1024L;
+        final long buckets = Math.min(MAX_BUCKETS, Long.highestOneBit(bytes / (BUCKET_SIZE * LONGS_PER_ENTRY * Long.BYTES)));
+        this.entries = new long[(int) (buckets * BUCKET_SIZE * LONGS_PER_ENTRY)];
+        this.bucketMask = buckets - 1;
+        this.age = 0;
+    }
+
+    public long probe(final long key) {
+        final int bucket = bucketIndex(key);
+        for(int i = 0 ; i < BUCKET_SIZE * LONGS_PER_ENTRY ; i += LONGS_PER_ENTRY){
+            final long data = this.entries[bucket + i + 1];
+            if(data != NO_ENTRY && (this.entries[bucket + i] ^ data) == key){
+                return data;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long key, final int move, final int score, final int depth, final int bound) {
+        final int bucket = bucketIndex(key);
+        final int currentAge = this.age;
+        int storedMove = move;
+        int replace = 0;
+        int worstValue = Integer.MAX_VALUE;
+        for(int i = 0 ; i < BUCKET_SIZE * LONGS_PER_ENTRY ; i += LONGS_PER_ENTRY){
+            final long data = this.entries[bucket + i + 1];
+            if(data == NO_ENTRY){
+                replace = i;
+                break;
+            }
+            if((this.entries[bucket + i] ^ data) == key){
+                if(depth < getDepth(data) && bound != EXACT && getAge(data) == currentAge){
+                    return;
+                }
+                if(storedMove == PackedMove.NO_MOVE){
+                    storedMove = getMove(data);
+                }
+                replace = i;
+                break;
+            }
+            final int value = getDepth(data) - 8 * ((currentAge - getAge(data)) & MAX_AGE);
+            if(value < worstValue){
+                worstValue = value;
+                replace = i;
+            }
+        }
+        final long data = pack(storedMove, score, depth, bound, currentAge);
+        this.entries[bucket + replace] = key ^ data;
+        this.entries[bucket + replace + 1] = data;
+    }
+
+    public void newSearch() {
+        this.age = (this.age + 1) & MAX_AGE;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.age = 0;
+    }
+
+    public int hashfull() {
+        final int sample = Math.min(1000, this.entries.length / LONGS_PER_ENTRY);
+        int used = 0;
+        for(int i = 0 ; i < sample ; i++){
+            final long data = this.entries[i * LONGS_PER_ENTRY + 1];
+            if(data != NO_ENTRY && getAge(data) == this.age){
+                used++;
+            }
+        }
+        return used * 1000 / Math.max(1, sample);
+    }
+
+    public int capacity() {
+        return this.entries.length / LONGS_PER_ENTRY;
+    }
+
+    public static int getMove(final long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    public static int getScore(final long data) {
+        return (short) ((data >>> 16) & 0xFFFF);
+    }
+
+    public static int getDepth(final long data) {
+        return (int) ((data >>> 32) & 0xFF);
+    }
+
+    public static int getBound(final long data) {
+        return (int) ((data >>> 40) & 0x3);
+    }
+
+    private static int getAge(final long data) {
+        return (int) ((data >>> 42) & MAX_AGE);
+    }
+
+    private static long pack(final int move, final int score, final int depth, final int bound, final int age) {
+        return (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << 16)
+                | ((long) Math.max(0, Math.min(depth, 0xFF)) << 32)
+                | ((long) bound << 40)
+                | ((long) age << 42);
+    }
+
+    private int bucketIndex(final long key) {
+        return (int) ((key & this.bucketMask) * BUCKET_SIZE * LONGS_PER_ENTRY);
+    }
+}
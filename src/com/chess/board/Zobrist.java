@@ -0,0 +1,79 @@
+package com.chess.board;
+
+import com.chess.PieceType;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Piece;
+
+import java.util.Random;
+
+public final class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final long[][] PIECE_KEYS = new long[BoardUtils.NUM_BITBOARDS][BoardUtils.NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[BoardUtils.ALL_CASTLING_RIGHTS + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUM_TILES_PER_ROW];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        for(final long[] pieceKeys: PIECE_KEYS){
+            for(int square = 0 ; square < BoardUtils.NUM_TILES ; square++){
+                pieceKeys[square] = random.nextLong();
+            }
+        }
+        for(int rights = 1 ; rights < CASTLING_KEYS.length ; rights++){
+            CASTLING_KEYS[rights] = random.nextLong();
+        }
+        for(int column = 0 ; column < EN_PASSANT_KEYS.length ; column++){
+            EN_PASSANT_KEYS[column] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static long pieceKey(final PieceType pieceType, final Piece.PieceConfig pieceConfig, final int square) {
+        return PIECE_KEYS[BoardUtils.bitboardIndex(pieceType, pieceConfig)][square];
+    }
+
+    public static long pieceKey(final Piece piece, final int square) {
+        return pieceKey(piece.getPieceType(), piece.getPieceConfig(), square);
+    }
+
+    public static long castlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    public static long enPassantKey(final int pawnPosition) {
+        return EN_PASSANT_KEYS[pawnPosition % BoardUtils.NUM_TILES_PER_ROW];
+    }
+
+    public static long sideKey() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    public static long calculateKey(final Board board) {
+        long key = 0L;
+        for(final PieceType pieceType: PieceType.values()){
+            for(final Piece.PieceConfig pieceConfig: Piece.PieceConfig.values()){
+                long pieces = board.getBitboard(pieceType, pieceConfig);
+                while(pieces != 0){
+                    key ^= pieceKey(pieceType, pieceConfig, Long.numberOfTrailingZeros(pieces));
+                    pieces &= pieces - 1;
+                }
+            }
+        }
+        key ^= castlingKey(board.getCastlingRights());
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if(enPassantPawn != null){
+            key ^= enPassantKey(enPassantPawn.getPiecePosition());
+        }
+        if(board.getNextMoveMaker().isBlack()){
+            key ^= BLACK_TO_MOVE_KEY;
+        }
+        return key;
+    }
+}
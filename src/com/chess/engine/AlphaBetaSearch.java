@@ -0,0 +1,267 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.board.GameStatus;
+import com.chess.board.Move;
+import com.chess.board.PackedMove;
+import com.chess.board.TranspositionTable;
+import com.chess.pgn.FenUtilities;
+import com.chess.player.MoveTransition;
+import com.chess.player.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class AlphaBetaSearch {
+
+    public static final int MATE_SCORE = 30000;
+    public static final int MAX_PLY = 128;
+
+    private static final int INFINITY = 32000;
+    private static final int DRAW_SCORE = 0;
+    private static final int FIFTY_MOVE_HALFMOVES = 100;
+    private static final int STOP_CHECK_INTERVAL = 2048;
+
+    private final BoardEvaluator evaluator;
+    private final SearchListener listener;
+    private final TranspositionTable table;
+    private final MoveOrderer orderer;
+    private final QuiescenceSearch quiescence;
+    private final Move[][] pvTable;
+    private final int[] pvLength;
+    private final List<Move> previousPv;
+    private long nodes;
+    private volatile long publishedNodes;
+    private long nodeLimit;
+    private long nextStopCheck;
+    private long start;
+    private boolean followPv;
+    private boolean aborted;
+    private volatile boolean stopRequested;
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator) {
+        this(evaluator, SearchListener.NONE);
+    }
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator, final SearchListener listener) {
+        this(evaluator, listener, null);
+    }
+
+    public AlphaBetaSearch(final BoardEvaluator evaluator, final SearchListener listener, final TranspositionTable table) {
+        this.evaluator = evaluator;
+        this.listener = listener;
+        this.table = table;
+        this.orderer = new MoveOrderer();
+        this.quiescence = new QuiescenceSearch(evaluator);
+        this.pvTable = new Move[MAX_PLY][MAX_PLY];
+        this.pvLength = new int[MAX_PLY];
+        this.previousPv = new ArrayList<>();
+    }
+
+    public SearchResult search(final Board board, final int maxDepth) {
+        return search(board, maxDepth, Long.MAX_VALUE);
+    }
+
+    public SearchResult search(final Board board, final int maxDepth, final long nodeLimit) {
+        if(this.table != null){
+            this.table.newSearch();
+        }
+        begin(nodeLimit);
+        SearchResult result = initialResult(board);
+        for(int depth = 1 ; depth <= Math.min(maxDepth, MAX_PLY - 1) ; depth++){
+            final SearchResult iteration = iterate(board, depth);
+            if(iteration == null){
+                break;
+            }
+            result = iteration;
+            this.listener.onIteration(result);
+            if(isFinal(result)){
+                break;
+            }
+        }
+        return result;
+    }
+
+    public void stop() {
+        this.stopRequested = true;
+    }
+
+    public long getNodes() {
+        return this.publishedNodes;
+    }
+
+    void begin(final long nodeLimit) {
+        this.nodes = 0L;
+        this.publishedNodes = 0L;
+        this.nodeLimit = nodeLimit;
+        this.nextStopCheck = STOP_CHECK_INTERVAL;
+        this.aborted = false;
+        this.stopRequested = false;
+        this.previousPv.clear();
+        this.orderer.newSearch();
+        this.start = System.nanoTime();
+    }
+
+    SearchResult initialResult(final Board board) {
+        return new SearchResult(0, this.evaluator.evaluate(board), this.previousPv, 0L, 0L);
+    }
+
+    SearchResult iterate(final Board board, final int depth) {
+        if(this.aborted){
+            return null;
+        }
+        this.followPv = true;
+        final int score = pvs(board, depth, -INFINITY, INFINITY, 0);
+        this.publishedNodes = this.nodes;
+        if(this.aborted && (depth > 1 || this.pvLength[0] == 0)){
+            return null;
+        }
+        this.previousPv.clear();
+        for(int i = 0 ; i < this.pvLength[0] ; i++){
+            this.previousPv.add(this.pvTable[0][i]);
+        }
+        return new SearchResult(depth, score, this.previousPv, this.nodes, System.nanoTime() - this.start);
+    }
+
+    boolean isFinal(final SearchResult result) {
+        return this.aborted || result.getPrincipalVariation().isEmpty() || result.isMate();
+    }
+
+    private int pvs(final Board board, final int depth, final int alpha, final int beta, final int ply) {
+        this.pvLength[ply] = ply;
+        this.nodes++;
+        if(this.nodes >= this.nextStopCheck){
+            this.nextStopCheck = this.nodes + STOP_CHECK_INTERVAL;
+            this.publishedNodes = this.nodes;
+            this.aborted = this.stopRequested;
+        }
+        if(this.nodes >= this.nodeLimit){
+            this.aborted = true;
+        }
+        if(this.aborted){
+            return DRAW_SCORE;
+        }
+        if(depth <= 0 || ply >= MAX_PLY - 1){
+            return quiesce(board, alpha, beta, ply);
+        }
+        if(ply > 0 && board.getHalfmoveClock() >= FIFTY_MOVE_HALFMOVES && board.getGameStatus() != GameStatus.CHECKMATE){
+            return DRAW_SCORE;
+        }
+        final long key = board.getZobristKey();
+        int hashMove = PackedMove.NO_MOVE;
+        if(this.table != null){
+            final long entry = this.table.probe(key);
+            if(entry != TranspositionTable.NO_ENTRY){
+                hashMove = TranspositionTable.getMove(entry);
+                if(ply > 0 && beta - alpha == 1 && TranspositionTable.getDepth(entry) >= depth){
+                    final int score = fromTable(TranspositionTable.getScore(entry), ply);
+                    final int bound = TranspositionTable.getBound(entry);
+                    if(bound == TranspositionTable.EXACT
+                            || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                            || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)){
+                        return score;
+                    }
+                }
+            }
+        }
+        final Player player = board.currentPlayer();
+        final List<Move> moves = player.getLegalMoves();
+        final int pvMove = findPvMove(ply);
+        final Move[] ordered = this.orderer.order(moves, ply, pvMove != PackedMove.NO_MOVE ? pvMove : hashMove);
+        this.followPv = pvMove != PackedMove.NO_MOVE && !moves.isEmpty() && PackedMove.fromMove(ordered[0]) == pvMove;
+        Move bestMove = null;
+        int bestScore = -INFINITY;
+        int lowerBound = alpha;
+        int searched = 0;
+        for(int i = 0 ; i < moves.size() ; i++){
+            final Move move = ordered[i];
+            final MoveTransition transition = player.makeMove(move);
+            if(!transition.getMovesStatus().isDone()){
+                continue;
+            }
+            int score;
+            if(searched == 0){
+                score = -pvs(transition.getBoard(), depth - 1, -beta, -lowerBound, ply + 1);
+            }else{
+                score = -pvs(transition.getBoard(), depth - 1, -lowerBound - 1, -lowerBound, ply + 1);
+                if(score > lowerBound && score < beta){
+                    score = -pvs(transition.getBoard(), depth - 1, -beta, -lowerBound, ply + 1);
+                }
+            }
+            searched++;
+            this.followPv = false;
+            if(this.aborted){
+                return DRAW_SCORE;
+            }
+            if(score > bestScore){
+                bestScore = score;
+                bestMove = move;
+                if(score > lowerBound){
+                    lowerBound = score;
+                    updatePv(move, ply);
+                    if(score >= beta){
+                        this.orderer.recordCutoff(move, ply, depth);
+                        break;
+                    }
+                }
+            }
+        }
+        if(searched == 0){
+            return player.isInChecked() ? -MATE_SCORE + ply : DRAW_SCORE;
+        }
+        if(this.table != null){
+            final int bound = bestScore >= beta ? TranspositionTable.LOWER_BOUND :
+                    lowerBound > alpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND;
+            this.table.store(key, PackedMove.fromMove(bestMove), toTable(bestScore, ply), depth, bound);
+        }
+        return bestScore;
+    }
+
+    private int quiesce(final Board board, final int alpha, final int beta, final int ply) {
+        this.quiescence.resetNodes();
+        final int score = this.quiescence.search(board, alpha, beta, ply);
+        this.nodes += this.quiescence.getNodes() - 1;
+        return score;
+    }
+
+    private int findPvMove(final int ply) {
+        if(!this.followPv || ply >= this.previousPv.size()){
+            return PackedMove.NO_MOVE;
+        }
+        return PackedMove.fromMove(this.previousPv.get(ply));
+    }
+
+    private static int toTable(final int score, final int ply) {
+        if(score >= MATE_SCORE - MAX_PLY){
+            return score + ply;
+        }
+        return score <= -MATE_SCORE + MAX_PLY ? score - ply : score;
+    }
+
+    private static int fromTable(final int score, final int ply) {
+        if(score >= MATE_SCORE - MAX_PLY){
+            return score - ply;
+        }
+        return score <= -MATE_SCORE + MAX_PLY ? score + ply : score;
+    }
+
+    private void updatePv(final Move move, final int ply) {
+        this.pvTable[ply][ply] = move;
+        for(int i = ply + 1 ; i < this.pvLength[ply + 1] ; i++){
+            this.pvTable[ply][i] = this.pvTable[ply + 1][i];
+        }
+        this.pvLength[ply] = Math.max(ply + 1, this.pvLength[ply + 1]);
+    }
+
+    public static void main(final String[] args) {
+        final Board board = args.length > 1 ? FenUtilities.createGameFromFEN(args[1]) : Board.createStandardBoard();
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        final AlphaBetaSearch search = new AlphaBetaSearch(new PieceSquareEvaluator(), new SearchListener() {
+            @Override
+            public void onIteration(final SearchResult result) {
+                System.out.println(result);
+            }
+        });
+        System.out.println("bestmove " + search.search(board, depth).getBestMove());
+    }
+}
@@ -0,0 +1,8 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+
+public interface BoardEvaluator {
+
+    int evaluate(Board board);
+}
@@ -0,0 +1,168 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.board.TranspositionTable;
+import com.chess.pgn.FenUtilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public final class LazySMPSearch {
+
+    private final SearchListener listener;
+    private final TranspositionTable table;
+    private final AlphaBetaSearch[] searchers;
+
+    public LazySMPSearch(final BoardEvaluator evaluator,
+                         final SearchListener listener,
+                         final int threads,
+                         final int tableMegabytes) {
+        this.listener = listener;
+        this.table = new TranspositionTable(tableMegabytes);
+        this.searchers = new AlphaBetaSearch[Math.max(1, threads)];
+        for(int i = 0 ; i < this.searchers.length ; i++){
+            this.searchers[i] = new AlphaBetaSearch(evaluator, SearchListener.NONE, this.table);
+        }
+    }
+
+    public SearchResult search(final Board board, final int maxDepth) {
+        this.table.newSearch();
+        final AlphaBetaSearch main = this.searchers[0];
+        for(final AlphaBetaSearch searcher: this.searchers){
+            searcher.begin(Long.MAX_VALUE);
+        }
+        final ExecutorService pool = this.searchers.length > 1 ? Executors.newFixedThreadPool(this.searchers.length - 1) : null;
+        final List<Future<?>> helpers = new ArrayList<>();
+        try{
+            for(int i = 1 ; i < this.searchers.length ; i++){
+                helpers.add(pool.submit(new HelperTask(this.searchers[i], board, maxDepth, helperDepthOffset(i))));
+            }
+            SearchResult result = main.initialResult(board);
+            for(int depth = 1 ; depth <= Math.min(maxDepth, AlphaBetaSearch.MAX_PLY - 1) ; depth++){
+                final SearchResult iteration = main.iterate(board, depth);
+                if(iteration == null){
+                    break;
+                }
+                result = withTotalNodes(iteration);
+                this.listener.onIteration(result);
+                if(main.isFinal(iteration)){
+                    break;
+                }
+            }
+            return result;
+        }finally{
+            stop();
+            for(final Future<?> helper: helpers){
+                await(helper);
+            }
+            if(pool != null){
+                pool.shutdown();
+            }
+        }
+    }
+
+    public SearchResult searchFixedNodes(final Board board, final int maxDepth, final long nodesPerThread) {
+        this.table.clear();
+        for(final AlphaBetaSearch searcher: this.searchers){
+            searcher.begin(nodesPerThread);
+        }
+        final AlphaBetaSearch main = this.searchers[0];
+        SearchResult result = main.initialResult(board);
+        for(int depth = 1 ; depth <= Math.min(maxDepth, AlphaBetaSearch.MAX_PLY - 1) ; depth++){
+            for(int i = this.searchers.length - 1 ; i > 0 ; i--){
+                final int helperDepth = depth + helperDepthOffset(i);
+                if(helperDepth < AlphaBetaSearch.MAX_PLY){
+                    this.searchers[i].iterate(board, helperDepth);
+                }
+            }
+            final SearchResult iteration = main.iterate(board, depth);
+            if(iteration == null){
+                break;
+            }
+            result = withTotalNodes(iteration);
+            this.listener.onIteration(result);
+            if(main.isFinal(iteration)){
+                break;
+            }
+        }
+        return result;
+    }
+
+    public void stop() {
+        for(final AlphaBetaSearch searcher: this.searchers){
+            searcher.stop();
+        }
+    }
+
+    public int getThreads() {
+        return this.searchers.length;
+    }
+
+    public TranspositionTable getTable() {
+        return this.table;
+    }
+
+    private SearchResult withTotalNodes(final SearchResult result) {
+        long nodes = 0L;
+        for(final AlphaBetaSearch searcher: this.searchers){
+            nodes += searcher.getNodes();
+        }
+        return new SearchResult(result.getDepth(), result.getScore(), result.getPrincipalVariation(),
+                nodes, result.getElapsedNanos());
+    }
+
+    private static int helperDepthOffset(final int helper) {
+        return helper % 2;
+    }
+
+    private static void await(final Future<?> helper) {
+        try{
+            helper.get();
+        }catch(final InterruptedException e){
+            Thread.currentThread().interrupt();
+        }catch(final ExecutionException e){
+            throw new RuntimeException("Helper search failed", e.getCause());
+        }
+    }
+
+    private static final class HelperTask implements Runnable {
+        private final AlphaBetaSearch searcher;
+        private final Board board;
+        private final int maxDepth;
+        private final int depthOffset;
+
+        HelperTask(final AlphaBetaSearch searcher, final Board board, final int maxDepth, final int depthOffset) {
+            this.searcher = searcher;
+            this.board = board;
+            this.maxDepth = maxDepth;
+            this.depthOffset = depthOffset;
+        }
+
+        @Override
+        public void run() {
+            for(int depth = 1 + this.depthOffset ; depth <= Math.min(this.maxDepth + 1, AlphaBetaSearch.MAX_PLY - 1) ; depth++){
+                final SearchResult iteration = this.searcher.iterate(this.board, depth);
+                if(iteration == null || this.searcher.isFinal(iteration)){
+                    return;
+                }
+            }
+        }
+    }
+
+    public static void main(final String[] args) {
+        final int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        final int depth = args.length > 1 ? Integer.parseInt(args[1]) : 6;
+        final Board board = args.length > 2 ? FenUtilities.createGameFromFEN(args[2]) : Board.createStandardBoard();
+        final LazySMPSearch search = new LazySMPSearch(new PieceSquareEvaluator(), new SearchListener() {
+            @Override
+            public void onIteration(final SearchResult result) {
+                System.out.println(result);
+            }
+        }, threads, 64);
+        System.out.println("bestmove " + search.search(board, depth).getBestMove());
+    }
+}
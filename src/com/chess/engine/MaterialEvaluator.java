@@ -0,0 +1,23 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.pieces.Piece;
+
+public final class MaterialEvaluator implements BoardEvaluator {
+
+    @Override
+    public int evaluate(final Board board) {
+        final int score = material(board.getWhitePieces()) - material(board.getBlackPieces());
+        return board.getNextMoveMaker().isWhite() ? score : -score;
+    }
+
+    private static int material(final Iterable<Piece> pieces) {
+        int material = 0;
+        for(final Piece piece: pieces){
+            if(!piece.isKing()){
+                material += piece.getPieceConfig().getPieceValue();
+            }
+        }
+        return material;
+    }
+}
@@ -0,0 +1,126 @@
+package com.chess.engine;
+
+import com.chess.board.BoardUtils;
+import com.chess.board.Move;
+import com.chess.board.PackedMove;
+import com.chess.pieces.Piece;
+
+import java.util.Arrays;
+import java.util.List;
+
+public final class MoveOrderer {
+
+    private static final int PRIORITY_SCORE = 1 << 30;
+    private static final int CAPTURE_SCORE = 1 << 28;
+    private static final int KILLER_SCORE = 1 << 27;
+    private static final int MAX_HISTORY = 1 << 20;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int NUM_KILLERS = 2;
+
+    private final Move[][] moveBuffers;
+    private final int[][] scoreBuffers;
+    private final int[][] killers;
+    private final int[][] history;
+
+    public MoveOrderer() {
+        this.moveBuffers = new Move[AlphaBetaSearch.MAX_PLY][INITIAL_CAPACITY];
+        this.scoreBuffers = new int[AlphaBetaSearch.MAX_PLY][INITIAL_CAPACITY];
+        this.killers = new int[AlphaBetaSearch.MAX_PLY][NUM_KILLERS];
+        this.history = new int[2][BoardUtils.NUM_TILES * BoardUtils.NUM_TILES];
+    }
+
+    public Move[] order(final List<Move> moves, final int ply, final int priorityMove) {
+        final int size = moves.size();
+        if(this.moveBuffers[ply].length < size){
+            this.moveBuffers[ply] = new Move[size];
+            this.scoreBuffers[ply] = new int[size];
+        }
+        final Move[] ordered = this.moveBuffers[ply];
+        final int[] scores = this.scoreBuffers[ply];
+        for(int i = 0 ; i < size ; i++){
+            final Move move = moves.get(i);
+            ordered[i] = move;
+            scores[i] = score(move, ply, priorityMove);
+        }
+        sort(ordered, scores, size);
+        return ordered;
+    }
+
+    public void recordCutoff(final Move move, final int ply, final int depth) {
+        if(move.isAttack()){
+            return;
+        }
+        final int packedMove = PackedMove.fromMove(move);
+        final int[] plyKillers = this.killers[ply];
+        if(plyKillers[0] != packedMove){
+            plyKillers[1] = plyKillers[0];
+            plyKillers[0] = packedMove;
+        }
+        final int[] sideHistory = this.history[move.getMovedPiece().getPieceType().ordinal()];
+        final int index = butterflyIndex(packedMove);
+        sideHistory[index] += depth * depth;
+        if(sideHistory[index] >= MAX_HISTORY){
+            ageHistory();
+        }
+    }
+
+    public void newSearch() {
+        for(final int[] plyKillers: this.killers){
+            Arrays.fill(plyKillers, PackedMove.NO_MOVE);
+        }
+        ageHistory();
+    }
+
+    public static int captureScore(final Move move) {
+        final Piece attackedPiece = move.getAttackedPiece();
+        final int victimValue = attackedPiece == null ? 0 : attackedPiece.getPieceConfig().getPieceValue();
+        final int promotionValue = move instanceof Move.PawnPromotion ?
+                ((Move.PawnPromotion) move).getPromotionConfig().getPieceValue() : 0;
+        return (victimValue + promotionValue) * 16 - move.getMovedPiece().getPieceConfig().getPieceValue() / 100;
+    }
+
+    public static void sort(final Move[] moves, final int[] scores, final int size) {
+        for(int i = 1 ; i < size ; i++){
+            final Move move = moves[i];
+            final int score = scores[i];
+            int j = i - 1;
+            while(j >= 0 && scores[j] < score){
+                moves[j + 1] = moves[j];
+                scores[j + 1] = scores[j];
+                j--;
+            }
+            moves[j + 1] = move;
+            scores[j + 1] = score;
+        }
+    }
+
+    private int score(final Move move, final int ply, final int priorityMove) {
+        final int packedMove = PackedMove.fromMove(move);
+        if(packedMove == priorityMove){
+            return PRIORITY_SCORE;
+        }
+        if(move.isAttack() || move instanceof Move.PawnPromotion){
+            return CAPTURE_SCORE + captureScore(move);
+        }
+        final int[] plyKillers = this.killers[ply];
+        if(packedMove == plyKillers[0]){
+            return KILLER_SCORE;
+        }
+        if(packedMove == plyKillers[1]){
+            return KILLER_SCORE - 1;
+        }
+        return this.history[move.getMovedPiece().getPieceType().ordinal()][butterflyIndex(packedMove)];
+    }
+
+    private void ageHistory() {
+        for(final int[] sideHistory: this.history){
+            for(int i = 0 ; i < sideHistory.length ; i++){
+                sideHistory[i] >>= 1;
+            }
+        }
+    }
+
+    private static int butterflyIndex(final int packedMove) {
+        return PackedMove.getFrom(packedMove) * BoardUtils.NUM_TILES + PackedMove.getTo(packedMove);
+    }
+}
@@ -0,0 +1,13 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.board.PieceSquareTables;
+
+public final class PieceSquareEvaluator implements BoardEvaluator {
+
+    @Override
+    public int evaluate(final Board board) {
+        final int score = PieceSquareTables.taper(board.getMiddlegameScore(), board.getEndgameScore(), board.getGamePhase());
+        return board.getNextMoveMaker().isWhite() ? score : -score;
+    }
+}
@@ -0,0 +1,96 @@
+package com.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.board.Move;
+import com.chess.player.MoveTransition;
+import com.chess.player.Player;
+
+import java.util.List;
+
+public final class QuiescenceSearch {
+
+    private static final int MAX_DEPTH = 32;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private final BoardEvaluator evaluator;
+    private final Move[][] moveBuffers;
+    private final int[][] scoreBuffers;
+    private long nodes;
+
+    public QuiescenceSearch(final BoardEvaluator evaluator) {
+        this.evaluator = evaluator;
+        this.moveBuffers = new Move[MAX_DEPTH][INITIAL_CAPACITY];
+        this.scoreBuffers = new int[MAX_DEPTH][INITIAL_CAPACITY];
+    }
+
+    public int search(final Board board, final int alpha, final int beta) {
+        return search(board, alpha, beta, 0);
+    }
+
+    public int search(final Board board, final int alpha, final int beta, final int ply) {
+        return search(board, alpha, beta, ply, 0);
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public void resetNodes() {
+        this.nodes = 0L;
+    }
+
+    private int search(final Board board, final int alpha, final int beta, final int ply, final int depth) {
+        this.nodes++;
+        if(depth >= MAX_DEPTH){
+            return this.evaluator.evaluate(board);
+        }
+        final Player player = board.currentPlayer();
+        final boolean inCheck = player.isInChecked();
+        int bestScore = -AlphaBetaSearch.MATE_SCORE + ply;
+        int lowerBound = alpha;
+        if(!inCheck){
+            final int standPat = this.evaluator.evaluate(board);
+            if(standPat >= beta){
+                return standPat;
+            }
+            bestScore = standPat;
+            lowerBound = Math.max(alpha, standPat);
+        }
+        final int size = collectMoves(player.getLegalMoves(), depth, inCheck);
+        final Move[] candidates = this.moveBuffers[depth];
+        for(int i = 0 ; i < size ; i++){
+            final MoveTransition transition = player.makeMove(candidates[i]);
+            if(!transition.getMovesStatus().isDone()){
+                continue;
+            }
+            final int score = -search(transition.getBoard(), -beta, -lowerBound, ply + 1, depth + 1);
+            if(score > bestScore){
+                bestScore = score;
+                if(score >= beta){
+                    break;
+                }
+                lowerBound = Math.max(lowerBound, score);
+            }
+        }
+        return bestScore;
+    }
+
+    private int collectMoves(final List<Move> moves, final int depth, final boolean evasions) {
+        if(this.moveBuffers[depth].length < moves.size()){
+            this.moveBuffers[depth] = new Move[moves.size()];
+            this.scoreBuffers[depth] = new int[moves.size()];
+        }
+        final Move[] candidates = this.moveBuffers[depth];
+        final int[] scores = this.scoreBuffers[depth];
+        int size = 0;
+        for(final Move move: moves){
+            if(evasions || ((move.isAttack() || move instanceof Move.PawnPromotion) && !StaticExchangeEvaluator.isLosing(move))){
+                candidates[size] = move;
+                scores[size] = MoveOrderer.captureScore(move);
+                size++;
+            }
+        }
+        MoveOrderer.sort(candidates, scores, size);
+        return size;
+    }
+}
@@ -0,0 +1,12 @@
+package com.chess.engine;
+
+public interface SearchListener {
+
+    SearchListener NONE = new SearchListener() {
+        @Override
+        public void onIteration(final SearchResult result) {
+        }
+    };
+
+    void onIteration(SearchResult result);
+}
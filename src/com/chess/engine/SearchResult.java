@@ -0,0 +1,78 @@
+package com.chess.engine;
+
+import com.chess.board.Move;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+public final class SearchResult {
+    private final int depth;
+    private final int score;
+    private final List<Move> principalVariation;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    SearchResult(final int depth,
+                 final int score,
+                 final List<Move> principalVariation,
+                 final long nodes,
+                 final long elapsedNanos) {
+        this.depth = depth;
+        this.score = score;
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getDepth() {
+        return this.depth;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    public Move getBestMove() {
+        return this.principalVariation.isEmpty() ? Move.NULL_MOVE : this.principalVariation.get(0);
+    }
+
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return this.nodes * 1000000000L / Math.max(1L, this.elapsedNanos);
+    }
+
+    public boolean isMate() {
+        return Math.abs(this.score) >= AlphaBetaSearch.MATE_SCORE - AlphaBetaSearch.MAX_PLY;
+    }
+
+    public int getMateDistance() {
+        final int plies = AlphaBetaSearch.MATE_SCORE - Math.abs(this.score);
+        return this.score > 0 ? (plies + 1) / 2 : -(plies + 1) / 2;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("depth ").append(this.depth)
+                .append(" score ").append(isMate() ? "mate " + getMateDistance() : "cp " + this.score)
+                .append(" nodes ").append(this.nodes)
+                .append(" nps ").append(getNodesPerSecond())
+                .append(" time ").append(this.elapsedNanos / 1000000L)
+                .append(" pv");
+        for(final Move move: this.principalVariation){
+            builder.append(' ').append(move);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,83 @@
+package com.chess.engine;
+
+import com.chess.PieceType;
+import com.chess.board.Board;
+import com.chess.board.Move;
+import com.chess.pieces.Piece;
+
+public final class StaticExchangeEvaluator {
+
+    private static final Piece.PieceConfig[] ATTACKER_ORDER = Piece.PieceConfig.values();
+    private static final int MAX_EXCHANGES = 32;
+
+    private StaticExchangeEvaluator(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static int evaluate(final Move move) {
+        if(move.isCastlingMove()){
+            return 0;
+        }
+        final Board board = move.getBoard();
+        final int destination = move.getDestinationPosition();
+        final Piece attackedPiece = move.getAttackedPiece();
+        final int[] gain = new int[MAX_EXCHANGES];
+        int attackerValue = move.getMovedPiece().getPieceConfig().getPieceValue();
+        gain[0] = attackedPiece == null ? 0 : attackedPiece.getPieceConfig().getPieceValue();
+        if(move instanceof Move.PawnPromotion){
+            final int promotionValue = ((Move.PawnPromotion) move).getPromotionConfig().getPieceValue();
+            gain[0] += promotionValue - attackerValue;
+            attackerValue = promotionValue;
+        }
+        long occupancy = board.getOccupancy() ^ (1L << move.getCurrentPosition()) | (1L << destination);
+        if(attackedPiece != null && attackedPiece.getPiecePosition() != destination){
+            occupancy ^= 1L << attackedPiece.getPiecePosition();
+        }
+        PieceType side = move.getMovedPiece().getPieceType().opposite();
+        long attackers = board.attackersOf(destination, occupancy) & occupancy;
+        int exchanges = 0;
+        while(exchanges < MAX_EXCHANGES - 1){
+            final long sideAttackers = attackers & board.getOccupancy(side);
+            if(sideAttackers == 0){
+                break;
+            }
+            Piece.PieceConfig attackerConfig = null;
+            long attackerBit = 0L;
+            for(final Piece.PieceConfig config: ATTACKER_ORDER){
+                final long candidates = sideAttackers & board.getBitboard(side, config);
+                if(candidates != 0){
+                    attackerConfig = config;
+                    attackerBit = candidates & -candidates;
+                    break;
+                }
+            }
+            if(attackerConfig == Piece.PieceConfig.KING
+                    && (attackers & board.getOccupancy(side.opposite()) & ~(1L << destination)) != 0){
+                break;
+            }
+            exchanges++;
+            gain[exchanges] = attackerValue - gain[exchanges - 1];
+            if(Math.max(-gain[exchanges - 1], gain[exchanges]) < 0){
+                break;
+            }
+            attackerValue = attackerConfig.getPieceValue();
+            occupancy ^= attackerBit;
+            attackers = board.attackersOf(destination, occupancy) & occupancy;
+            side = side.opposite();
+        }
+        while(exchanges > 0){
+            gain[exchanges - 1] = -Math.max(-gain[exchanges - 1], gain[exchanges]);
+            exchanges--;
+        }
+        return gain[0];
+    }
+
+    public static boolean isLosing(final Move move) {
+        final Piece attackedPiece = move.getAttackedPiece();
+        if(attackedPiece != null && !(move instanceof Move.PawnPromotion)
+                && attackedPiece.getPieceConfig().getPieceValue() >= move.getMovedPiece().getPieceConfig().getPieceValue()){
+            return false;
+        }
+        return evaluate(move) < 0;
+    }
+}
@@ -1,6 +1,7 @@
 package com.chess.gui;
 
 import com.chess.board.Board;
+import com.chess.board.GameStatus;
 import com.chess.board.Move;
 
 import javax.swing.*;
@@ -54,9 +55,10 @@ public class GameHistoryPanel extends JPanel{
     }
 
     private String calculateCheckAndCheckMateHash(final Board board) {
-        if(board.currentPlayer().isInCheckMate()){
+        final GameStatus status = board.getGameStatus();
+        if(status == GameStatus.CHECKMATE){
             return "#";
-        }else if(board.currentPlayer().isInChecked()){
+        }else if(status.isCheck()){
             return "+";
         }else{
             return "";
@@ -4,6 +4,8 @@ import com.chess.board.Board;
 import com.chess.board.BoardUtils;
 import com.chess.board.ChessTile;
 import com.chess.board.Move;
+import com.chess.pgn.PGNGame;
+import com.chess.pgn.PGNUtilities;
 import com.chess.pieces.Piece;
 import com.chess.player.MoveTransition;
 import com.google.common.collect.Lists;
@@ -78,13 +80,16 @@ public class Table {
         return tableMenuBar;
     }
 
-    private static JMenu createFileMenu() {
+    private JMenu createFileMenu() {
         final JMenu fileMenu = new JMenu("File");
         final JMenuItem openPGN = new JMenuItem("Load PGN File");
         openPGN.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("Open PGN file");
+                final JFileChooser chooser = new JFileChooser();
+                if(chooser.showOpenDialog(gameFrame) == JFileChooser.APPROVE_OPTION){
+                    loadPGNFile(chooser.getSelectedFile());
+                }
             }
         });
         fileMenu.add(openPGN);
@@ -99,6 +104,28 @@ public class Table {
         return fileMenu;
     }
 
+    private void loadPGNFile(final File pgnFile) {
+        try{
+            final PGNGame game = PGNUtilities.readFirstGame(pgnFile.toPath());
+            if(game == null){
+                JOptionPane.showMessageDialog(this.gameFrame, "No games found in " + pgnFile.getName());
+                return;
+            }
+            final List<MoveTransition> transitions = PGNUtilities.replay(game);
+            this.moveLog.clear();
+            for(final MoveTransition transition: transitions){
+                this.moveLog.addMove(transition.getMove());
+            }
+            this.chessBoard = transitions.isEmpty() ? game.createStartingBoard() : transitions.get(transitions.size() - 1).getBoard();
+        }catch(final IOException | RuntimeException e){
+            JOptionPane.showMessageDialog(this.gameFrame, "Cannot load " + pgnFile.getName() + ": " + e.getMessage());
+            return;
+        }
+        this.gameHistoryPanel.redo(this.chessBoard, this.moveLog);
+        this.takenPiecesPanel.redo(this.moveLog);
+        this.boardPanel.drawBoardPanel(this.chessBoard);
+    }
+
     private class BoardPanel extends JPanel{
         final List<TilePanel> boardTiles;
         BoardPanel(){
@@ -0,0 +1,81 @@
+package com.chess.perft;
+
+import com.chess.board.Board;
+import com.chess.board.Move;
+import com.chess.player.MoveTransition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelPerft {
+
+    private static final int SEQUENTIAL_DEPTH = 2;
+
+    private ParallelPerft(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static long perft(final Board board, final int depth) {
+        return perft(board, depth, ForkJoinPool.commonPool());
+    }
+
+    public static long perft(final Board board, final int depth, final ForkJoinPool pool) {
+        return pool.invoke(new PerftTask(board, depth));
+    }
+
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        final PerftPosition position = args.length > 1 ? PerftPosition.valueOf(args[1]) : PerftPosition.STARTING;
+        final int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        final Board board = position.createBoard();
+        perft(board, depth - 1);
+        double baseline = 0;
+        for(int threads = 1 ; threads <= maxThreads ; threads = threads < maxThreads ? Math.min(threads * 2, maxThreads) : threads + 1){
+            final ForkJoinPool pool = new ForkJoinPool(threads);
+            try{
+                final long start = System.nanoTime();
+                final long nodes = perft(board, depth, pool);
+                final double seconds = Math.max(1L, System.nanoTime() - start) / 1e9;
+                if(threads == 1){
+                    baseline = seconds;
+                }
+                System.out.println(String.format("%-10s depth %d threads %3d: %12d nodes %10.3f s %12.0f nps speedup %5.2fx %s",
+                        position, depth, threads, nodes, seconds, nodes / seconds, baseline / seconds,
+                        depth > position.getMaxDepth() || nodes == position.getExpectedNodes(depth) ? "OK" : "FAILED"));
+            }finally{
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static final class PerftTask extends RecursiveTask<Long> {
+        private final Board board;
+        private final int depth;
+
+        PerftTask(final Board board, final int depth){
+            this.board = board;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            if(this.depth <= SEQUENTIAL_DEPTH){
+                return Perft.perft(this.board, this.depth);
+            }
+            final List<PerftTask> subtasks = new ArrayList<>();
+            for(final Move move: this.board.currentPlayer().getLegalMoves()){
+                final MoveTransition transition = this.board.currentPlayer().makeMove(move);
+                if(transition.getMovesStatus().isDone()){
+                    subtasks.add(new PerftTask(transition.getBoard(), this.depth - 1));
+                }
+            }
+            long nodes = 0L;
+            for(final PerftTask subtask: invokeAll(subtasks)){
+                nodes += subtask.join();
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.chess.perft;
+
+import com.chess.board.Board;
+import com.chess.board.IntMoveList;
+import com.chess.board.Move;
+import com.chess.board.PackedMove;
+import com.chess.board.Position;
+import com.chess.player.MoveTransition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Perft {
+
+    private Perft(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static long perft(final Board board, final int depth) {
+        if(depth == 0){
+            return 1L;
+        }
+        long nodes = 0L;
+        for(final Move move: board.currentPlayer().getLegalMoves()){
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if(transition.getMovesStatus().isDone()){
+                nodes += perft(transition.getBoard(), depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+    public static long perft(final Position position, final int depth) {
+        if(depth == 0){
+            return 1L;
+        }
+        final IntMoveList moves = new IntMoveList();
+        position.generateLegalMoves(moves);
+        if(depth == 1){
+            return moves.size();
+        }
+        long nodes = 0L;
+        for(int i = 0 ; i < moves.size() ; i++){
+            position.makeMove(moves.get(i));
+            nodes += perft(position, depth - 1);
+            position.unmakeMove();
+        }
+        return nodes;
+    }
+
+    public static Map<String, Long> divide(final Board board, final int depth) {
+        final Map<String, Long> divide = new LinkedHashMap<>();
+        for(final Move move: board.currentPlayer().getLegalMoves()){
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if(transition.getMovesStatus().isDone()){
+                divide.put(PackedMove.toString(PackedMove.fromMove(move)), perft(transition.getBoard(), depth - 1));
+            }
+        }
+        return divide;
+    }
+
+    public static boolean runSuite(final int maxDepth) {
+        boolean passed = true;
+        for(final PerftPosition position: PerftPosition.values()){
+            final Board board = position.createBoard();
+            for(int depth = 1 ; depth <= Math.min(maxDepth, position.getMaxDepth()) ; depth++){
+                final long start = System.nanoTime();
+                final long nodes = perft(board, depth);
+                final long elapsed = Math.max(1L, System.nanoTime() - start);
+                final long expected = position.getExpectedNodes(depth);
+                passed &= nodes == expected;
+                System.out.println(String.format("%-10s depth %d: %12d nodes %10.3f s %12.0f nps %s",
+                        position, depth, nodes, elapsed / 1e9, nodes * 1e9 / elapsed,
+                        nodes == expected ? "OK" : "FAILED (expected " + expected + ")"));
+            }
+        }
+        return passed;
+    }
+
+    public static void main(final String[] args) {
+        final int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        if(args.length > 1){
+            final PerftPosition position = PerftPosition.valueOf(args[1]);
+            long total = 0L;
+            for(final Map.Entry<String, Long> entry: divide(position.createBoard(), maxDepth).entrySet()){
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+                total += entry.getValue();
+            }
+            System.out.println("Total: " + total);
+            return;
+        }
+        if(!runSuite(maxDepth)){
+            System.exit(1);
+        }
+    }
+}
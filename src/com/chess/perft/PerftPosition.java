@@ -0,0 +1,67 @@
+package com.chess.perft;
+
+import com.chess.PieceType;
+import com.chess.board.Board;
+import com.chess.pgn.FenUtilities;
+import com.chess.pieces.PieceCache;
+
+public enum PerftPosition {
+    STARTING(20L, 400L, 8902L, 197281L, 4865609L, 119060324L){
+        @Override
+        public Board createBoard(){
+            return Board.createStandardBoard();
+        }
+    },
+    ENDGAME(14L, 191L, 2812L, 43238L, 674624L, 11030083L){
+        @Override
+        public Board createBoard(){
+            final Board.Builder builder = new Board.Builder();
+            builder.setPiece(PieceCache.pawn(10, PieceType.BLACK, true));
+            builder.setPiece(PieceCache.pawn(19, PieceType.BLACK, false));
+            builder.setPiece(PieceCache.king(24, PieceType.WHITE, false));
+            builder.setPiece(PieceCache.pawn(25, PieceType.WHITE, false));
+            builder.setPiece(PieceCache.rook(31, PieceType.BLACK, false));
+            builder.setPiece(PieceCache.rook(33, PieceType.WHITE, false));
+            builder.setPiece(PieceCache.pawn(37, PieceType.BLACK, false));
+            builder.setPiece(PieceCache.king(39, PieceType.BLACK, false));
+            builder.setPiece(PieceCache.pawn(52, PieceType.WHITE, true));
+            builder.setPiece(PieceCache.pawn(54, PieceType.WHITE, true));
+            builder.setPieceType(PieceType.WHITE);
+            return builder.build();
+        }
+    },
+    KIWIPETE(48L, 2039L, 97862L, 4085603L, 193690690L){
+        @Override
+        public Board createBoard(){
+            return FenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        }
+    },
+    PROMOTIONS(6L, 264L, 9467L, 422333L, 15833292L, 706045033L){
+        @Override
+        public Board createBoard(){
+            return FenUtilities.createGameFromFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1");
+        }
+    },
+    MIDDLEGAME(44L, 1486L, 62379L, 2103487L, 89941194L){
+        @Override
+        public Board createBoard(){
+            return FenUtilities.createGameFromFEN("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+        }
+    };
+
+    private final long[] expectedNodes;
+
+    PerftPosition(final long... expectedNodes){
+        this.expectedNodes = expectedNodes;
+    }
+
+    public abstract Board createBoard();
+
+    public int getMaxDepth(){
+        return this.expectedNodes.length;
+    }
+
+    public long getExpectedNodes(final int depth){
+        return this.expectedNodes[depth - 1];
+    }
+}
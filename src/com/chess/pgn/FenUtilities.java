@@ -0,0 +1,317 @@
+package com.chess.pgn;
+
+import com.chess.PieceType;
+import com.chess.board.Board;
+import com.chess.board.BoardUtils;
+import com.chess.pieces.Pawn;
+import com.chess.pieces.Piece;
+import com.chess.pieces.PieceCache;
+
+import java.nio.ByteBuffer;
+
+public final class FenUtilities {
+
+    private FenUtilities(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static Board createGameFromFEN(final CharSequence fen) {
+        return new FenParser(fen, 0, fen.length()).parse();
+    }
+
+    public static Board createGameFromFEN(final ByteBuffer buffer) {
+        final int start = buffer.position();
+        int end = start;
+        while(end < buffer.limit() && buffer.get(end) != '\n'){
+            end++;
+        }
+        buffer.position(end < buffer.limit() ? end + 1 : end);
+        return new FenParser(new AsciiSequence(buffer), start, end).parse();
+    }
+
+    public static String createFENFromGame(final Board board) {
+        final StringBuilder fen = new StringBuilder(90);
+        for(int row = 0 ; row < BoardUtils.NUM_TILES_PER_ROW ; row++){
+            int emptySquares = 0;
+            for(int column = 0 ; column < BoardUtils.NUM_TILES_PER_ROW ; column++){
+                final Piece piece = board.getPiece(row * BoardUtils.NUM_TILES_PER_ROW + column);
+                if(piece == null){
+                    emptySquares++;
+                    continue;
+                }
+                if(emptySquares > 0){
+                    fen.append(emptySquares);
+                    emptySquares = 0;
+                }
+                final char pieceName = piece.getPieceConfig().getPieceName().charAt(0);
+                fen.append(piece.getPieceType().isWhite() ? pieceName : Character.toLowerCase(pieceName));
+            }
+            if(emptySquares > 0){
+                fen.append(emptySquares);
+            }
+            if(row < BoardUtils.NUM_TILES_PER_ROW - 1){
+                fen.append('/');
+            }
+        }
+        fen.append(' ').append(board.getNextMoveMaker().isWhite() ? 'w' : 'b').append(' ');
+        final int castlingRights = board.getCastlingRights();
+        if(castlingRights == 0){
+            fen.append('-');
+        }else{
+            appendIf(fen, castlingRights, BoardUtils.WHITE_KING_SIDE, 'K');
+            appendIf(fen, castlingRights, BoardUtils.WHITE_QUEEN_SIDE, 'Q');
+            appendIf(fen, castlingRights, BoardUtils.BLACK_KING_SIDE, 'k');
+            appendIf(fen, castlingRights, BoardUtils.BLACK_QUEEN_SIDE, 'q');
+        }
+        fen.append(' ');
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if(enPassantPawn == null){
+            fen.append('-');
+        }else{
+            fen.append(BoardUtils.getPositionAtCoordinate(enPassantPawn.getPiecePosition()
+                    - enPassantPawn.getPieceType().getDirection() * BoardUtils.NUM_TILES_PER_ROW));
+        }
+        return fen.append(' ').append(board.getHalfmoveClock())
+                .append(' ').append(board.getFullmoveNumber()).toString();
+    }
+
+    private static void appendIf(final StringBuilder fen, final int castlingRights, final int right, final char symbol) {
+        if((castlingRights & right) != 0){
+            fen.append(symbol);
+        }
+    }
+
+    private static final class FenParser {
+        private final CharSequence fen;
+        private final int end;
+        private int index;
+
+        FenParser(final CharSequence fen, final int start, final int end){
+            this.fen = fen;
+            this.index = start;
+            this.end = end;
+        }
+
+        Board parse() {
+            skipWhitespace();
+            final char[] placement = parsePlacement();
+            expectSeparator();
+            final PieceType sideToMove = parseSideToMove();
+            expectSeparator();
+            final int castlingRights = parseCastlingRights();
+            expectSeparator();
+            final int enPassantSquare = parseEnPassantSquare();
+            skipWhitespace();
+            final int halfmoveClock = hasMore() ? parseNumber() : 0;
+            skipWhitespace();
+            final int fullmoveNumber = hasMore() ? parseNumber() : 1;
+
+            final Board.Builder builder = new Board.Builder();
+            for(int square = 0 ; square < BoardUtils.NUM_TILES ; square++){
+                if(placement[square] != 0){
+                    builder.setPiece(createPiece(placement[square], square, castlingRights));
+                }
+            }
+            if(enPassantSquare != -1){
+                final int pawnSquare = enPassantSquare + sideToMove.opposite().getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+                if(BoardUtils.isValidTilePosition(pawnSquare)
+                        && placement[pawnSquare] == (sideToMove.isWhite() ? 'p' : 'P')){
+                    builder.setEnPassantPawn(PieceCache.pawn(pawnSquare, sideToMove.opposite(), false));
+                }
+            }
+            return builder.setPieceType(sideToMove)
+                    .setHalfmoveClock(halfmoveClock)
+                    .setFullmoveNumber(fullmoveNumber)
+                    .build();
+        }
+
+        private char[] parsePlacement() {
+            final char[] placement = new char[BoardUtils.NUM_TILES];
+            int square = 0;
+            int column = 0;
+            while(hasMore() && this.fen.charAt(this.index) != ' '){
+                final char symbol = this.fen.charAt(this.index++);
+                if(symbol == '/'){
+                    if(column != BoardUtils.NUM_TILES_PER_ROW){
+                        throw invalid("rank has " + column + " files");
+                    }
+                    column = 0;
+                }else if(symbol >= '1' && symbol <= '8'){
+                    column += symbol - '0';
+                    square += symbol - '0';
+                }else{
+                    if(pieceConfig(symbol) == null || square >= BoardUtils.NUM_TILES){
+                        throw invalid("unexpected '" + symbol + "' in piece placement");
+                    }
+                    placement[square++] = symbol;
+                    column++;
+                }
+                if(column > BoardUtils.NUM_TILES_PER_ROW){
+                    throw invalid("rank has more than 8 files");
+                }
+            }
+            if(square != BoardUtils.NUM_TILES){
+                throw invalid("piece placement covers " + square + " squares");
+            }
+            return placement;
+        }
+
+        private PieceType parseSideToMove() {
+            final char side = next();
+            if(side == 'w'){
+                return PieceType.WHITE;
+            }else if(side == 'b'){
+                return PieceType.BLACK;
+            }
+            throw invalid("unexpected side to move '" + side + "'");
+        }
+
+        private int parseCastlingRights() {
+            if(peek() == '-'){
+                this.index++;
+                return 0;
+            }
+            int castlingRights = 0;
+            while(hasMore() && this.fen.charAt(this.index) != ' '){
+                final char symbol = this.fen.charAt(this.index++);
+                switch(symbol){
+                    case 'K': castlingRights |= BoardUtils.WHITE_KING_SIDE; break;
+                    case 'Q': castlingRights |= BoardUtils.WHITE_QUEEN_SIDE; break;
+                    case 'k': castlingRights |= BoardUtils.BLACK_KING_SIDE; break;
+                    case 'q': castlingRights |= BoardUtils.BLACK_QUEEN_SIDE; break;
+                    default: throw invalid("unexpected castling symbol '" + symbol + "'");
+                }
+            }
+            return castlingRights;
+        }
+
+        private int parseEnPassantSquare() {
+            final char file = next();
+            if(file == '-'){
+                return -1;
+            }
+            final char rank = next();
+            if(file < 'a' || file > 'h' || rank < '1' || rank > '8'){
+                throw invalid("unexpected en passant square");
+            }
+            return ('8' - rank) * BoardUtils.NUM_TILES_PER_ROW + (file - 'a');
+        }
+
+        private int parseNumber() {
+            int number = 0;
+            int digits = 0;
+            while(hasMore() && this.fen.charAt(this.index) >= '0' && this.fen.charAt(this.index) <= '9'){
+                number = number * 10 + (this.fen.charAt(this.index++) - '0');
+                digits++;
+            }
+            if(digits == 0){
+                throw invalid("expected a move counter");
+            }
+            return number;
+        }
+
+        private Piece createPiece(final char symbol, final int square, final int castlingRights) {
+            final PieceType pieceType = symbol < 'a' ? PieceType.WHITE : PieceType.BLACK;
+            final Piece.PieceConfig pieceConfig = pieceConfig(symbol);
+            return PieceCache.get(pieceConfig, pieceType, square, isFirstMove(pieceConfig, pieceType, square, castlingRights));
+        }
+
+        private static boolean isFirstMove(final Piece.PieceConfig pieceConfig,
+                                           final PieceType pieceType,
+                                           final int square,
+                                           final int castlingRights) {
+            final int kingSide = pieceType.isWhite() ? BoardUtils.WHITE_KING_SIDE : BoardUtils.BLACK_KING_SIDE;
+            final int queenSide = pieceType.isWhite() ? BoardUtils.WHITE_QUEEN_SIDE : BoardUtils.BLACK_QUEEN_SIDE;
+            final int homeRank = pieceType.isWhite() ? 56 : 0;
+            switch(pieceConfig){
+                case PAWN:
+                    return pieceType.isWhite() ? BoardUtils.SECOND_RANK[square] : BoardUtils.SEVENTH_RANK[square];
+                case KING:
+                    return square == homeRank + 4 && (castlingRights & (kingSide | queenSide)) != 0;
+                case ROOK:
+                    return (square == homeRank + 7 && (castlingRights & kingSide) != 0)
+                            || (square == homeRank && (castlingRights & queenSide) != 0);
+                default:
+                    return false;
+            }
+        }
+
+        private static Piece.PieceConfig pieceConfig(final char symbol) {
+            switch(Character.toUpperCase(symbol)){
+                case 'P': return Piece.PieceConfig.PAWN;
+                case 'N': return Piece.PieceConfig.KNIGHT;
+                case 'B': return Piece.PieceConfig.BISHOP;
+                case 'R': return Piece.PieceConfig.ROOK;
+                case 'Q': return Piece.PieceConfig.QUEEN;
+                case 'K': return Piece.PieceConfig.KING;
+                default: return null;
+            }
+        }
+
+        private void expectSeparator() {
+            if(!hasMore() || this.fen.charAt(this.index) != ' '){
+                throw invalid("expected a space");
+            }
+            skipWhitespace();
+        }
+
+        private void skipWhitespace() {
+            while(hasMore() && Character.isWhitespace(this.fen.charAt(this.index))){
+                this.index++;
+            }
+        }
+
+        private char next() {
+            final char symbol = peek();
+            this.index++;
+            return symbol;
+        }
+
+        private char peek() {
+            if(!hasMore()){
+                throw invalid("unexpected end of input");
+            }
+            return this.fen.charAt(this.index);
+        }
+
+        private boolean hasMore() {
+            return this.index < this.end;
+        }
+
+        private RuntimeException invalid(final String reason) {
+            return new RuntimeException("Invalid FEN at index " + this.index + ": " + reason);
+        }
+    }
+
+    private static final class AsciiSequence implements CharSequence {
+        private final ByteBuffer buffer;
+
+        AsciiSequence(final ByteBuffer buffer){
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return this.buffer.limit();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) (this.buffer.get(index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            final StringBuilder sequence = new StringBuilder(end - start);
+            for(int i = start ; i < end ; i++){
+                sequence.append(charAt(i));
+            }
+            return sequence;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+}
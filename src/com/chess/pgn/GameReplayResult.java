@@ -0,0 +1,51 @@
+package com.chess.pgn;
+
+public final class GameReplayResult {
+
+    private final long gameNumber;
+    private final PGNGame game;
+    private final int plies;
+    private final String finalPosition;
+    private final String error;
+
+    GameReplayResult(final long gameNumber,
+                     final PGNGame game,
+                     final int plies,
+                     final String finalPosition,
+                     final String error){
+        this.gameNumber = gameNumber;
+        this.game = game;
+        this.plies = plies;
+        this.finalPosition = finalPosition;
+        this.error = error;
+    }
+
+    public long getGameNumber() {
+        return this.gameNumber;
+    }
+
+    public PGNGame getGame() {
+        return this.game;
+    }
+
+    public int getPlies() {
+        return this.plies;
+    }
+
+    public String getFinalPosition() {
+        return this.finalPosition;
+    }
+
+    public String getError() {
+        return this.error;
+    }
+
+    public boolean isValid() {
+        return this.error == null;
+    }
+
+    @Override
+    public String toString(){
+        return "game " + this.gameNumber + ": " + (isValid() ? this.plies + " plies " + this.finalPosition : "ILLEGAL " + this.error);
+    }
+}
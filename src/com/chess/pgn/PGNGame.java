@@ -0,0 +1,46 @@
+package com.chess.pgn;
+
+import com.chess.board.Board;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public final class PGNGame {
+
+    private final Map<String, String> tags;
+    private final List<String> moves;
+    private final String outcome;
+
+    PGNGame(final Map<String, String> tags, final List<String> moves, final String outcome){
+        this.tags = Collections.unmodifiableMap(tags);
+        this.moves = Collections.unmodifiableList(moves);
+        this.outcome = outcome;
+    }
+
+    public Map<String, String> getTags() {
+        return this.tags;
+    }
+
+    public String getTag(final String name) {
+        return this.tags.get(name);
+    }
+
+    public List<String> getMoves() {
+        return this.moves;
+    }
+
+    public String getOutcome() {
+        return this.outcome;
+    }
+
+    public Board createStartingBoard() {
+        final String fen = this.tags.get("FEN");
+        return fen == null ? Board.createStandardBoard() : FenUtilities.createGameFromFEN(fen);
+    }
+
+    @Override
+    public String toString(){
+        return this.tags.get("White") + " - " + this.tags.get("Black") + " " + this.outcome;
+    }
+}
@@ -0,0 +1,291 @@
+package com.chess.pgn;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public final class PGNReader implements Closeable, Iterator<PGNGame> {
+
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024L * 1024L;
+    private static final String UNKNOWN_OUTCOME = "*";
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int position;
+    private PGNGame nextGame;
+    private boolean needsMoreInput;
+
+    private PGNReader(final FileChannel channel, final long windowSize) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        mapWindow(0L);
+        if(this.window.limit() >= UTF8_BOM.length && this.window.get(0) == UTF8_BOM[0]
+                && this.window.get(1) == UTF8_BOM[1] && this.window.get(2) == UTF8_BOM[2]){
+            this.position = UTF8_BOM.length;
+        }
+    }
+
+    public static PGNReader open(final Path path) throws IOException {
+        return open(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    public static PGNReader open(final Path path, final long windowSize) throws IOException {
+        return new PGNReader(FileChannel.open(path, StandardOpenOption.READ), windowSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(this.nextGame == null){
+            this.nextGame = readGame();
+        }
+        return this.nextGame != null;
+    }
+
+    @Override
+    public PGNGame next() {
+        if(!hasNext()){
+            throw new NoSuchElementException();
+        }
+        final PGNGame game = this.nextGame;
+        this.nextGame = null;
+        return game;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.window = null;
+        this.channel.close();
+    }
+
+    private PGNGame readGame() {
+        while(true){
+            final int start = this.position;
+            this.needsMoreInput = false;
+            final PGNGame game = parseGame();
+            if(!this.needsMoreInput){
+                return game;
+            }
+            if(start == 0 && this.window.limit() == this.windowSize){
+                throw new RuntimeException("PGN game at offset " + this.windowStart + " is larger than the "
+                        + this.windowSize + " byte mapping window");
+            }
+            remap(this.windowStart + start);
+        }
+    }
+
+    private PGNGame parseGame() {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        final List<String> moves = new ArrayList<>();
+        int pos = this.position;
+        while(true){
+            pos = skipWhitespace(pos);
+            if(pos >= this.window.limit()){
+                if(!isLastWindow()){
+                    this.needsMoreInput = true;
+                    return null;
+                }
+                this.position = pos;
+                return tags.isEmpty() && moves.isEmpty() ? null : new PGNGame(tags, moves, UNKNOWN_OUTCOME);
+            }
+            final byte symbol = this.window.get(pos);
+            if(symbol == '['){
+                if(!moves.isEmpty()){
+                    this.position = pos;
+                    return new PGNGame(tags, moves, UNKNOWN_OUTCOME);
+                }
+                pos = readTag(pos + 1, tags);
+            }else if(symbol == '{'){
+                pos = skipPast(pos + 1, (byte) '}');
+            }else if(symbol == ';' || (symbol == '%' && isLineStart(pos))){
+                pos = skipPast(pos + 1, (byte) '\n');
+            }else if(symbol == '('){
+                pos = skipVariation(pos + 1);
+            }else if(symbol == '$'){
+                pos = skipToken(pos + 1);
+            }else if(symbol == ')'){
+                pos++;
+            }else{
+                final int end = skipToken(pos);
+                if(end < 0){
+                    this.needsMoreInput = true;
+                    return null;
+                }
+                final String token = readAscii(pos, end);
+                if(isOutcome(token)){
+                    this.position = end;
+                    return new PGNGame(tags, moves, token);
+                }
+                final String san = stripMoveNumber(token);
+                if(!san.isEmpty()){
+                    moves.add(san);
+                }
+                pos = end;
+            }
+            if(pos < 0){
+                this.needsMoreInput = true;
+                return null;
+            }
+        }
+    }
+
+    private int readTag(final int start, final Map<String, String> tags) {
+        int pos = skipWhitespace(start);
+        final int nameStart = pos;
+        while(pos < this.window.limit() && !isWhitespace(this.window.get(pos)) && this.window.get(pos) != '"'){
+            pos++;
+        }
+        final int nameEnd = pos;
+        pos = skipWhitespace(pos);
+        if(pos >= this.window.limit()){
+            return partialAt(pos);
+        }
+        String value = "";
+        if(this.window.get(pos) == '"'){
+            byte[] buffer = new byte[64];
+            int length = 0;
+            pos++;
+            while(pos < this.window.limit() && this.window.get(pos) != '"'){
+                byte current = this.window.get(pos++);
+                if(current == '\\' && pos < this.window.limit()){
+                    current = this.window.get(pos++);
+                }
+                if(length == buffer.length){
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = current;
+            }
+            if(pos >= this.window.limit()){
+                return partialAt(pos);
+            }
+            value = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        pos = skipPast(pos, (byte) ']');
+        if(pos >= 0){
+            tags.put(readAscii(nameStart, nameEnd), value);
+        }
+        return pos;
+    }
+
+    private int skipVariation(final int start) {
+        int depth = 1;
+        int pos = start;
+        while(pos >= 0 && pos < this.window.limit()){
+            final byte symbol = this.window.get(pos++);
+            if(symbol == '('){
+                depth++;
+            }else if(symbol == ')'){
+                depth--;
+                if(depth == 0){
+                    return pos;
+                }
+            }else if(symbol == '{'){
+                pos = skipPast(pos, (byte) '}');
+            }else if(symbol == ';'){
+                pos = skipPast(pos, (byte) '\n');
+            }
+        }
+        return partialAt(pos < 0 ? this.window.limit() : pos);
+    }
+
+    private int skipPast(final int start, final byte terminator) {
+        int pos = start;
+        while(pos < this.window.limit()){
+            if(this.window.get(pos++) == terminator){
+                return pos;
+            }
+        }
+        return partialAt(pos);
+    }
+
+    private int skipToken(final int start) {
+        int pos = start;
+        while(pos < this.window.limit() && !isDelimiter(this.window.get(pos))){
+            pos++;
+        }
+        return partialAt(pos);
+    }
+
+    private int skipWhitespace(final int start) {
+        int pos = start;
+        while(pos < this.window.limit() && isWhitespace(this.window.get(pos))){
+            pos++;
+        }
+        return pos;
+    }
+
+    private int partialAt(final int pos) {
+        return pos < this.window.limit() || isLastWindow() ? pos : -1;
+    }
+
+    private String readAscii(final int start, final int end) {
+        final char[] chars = new char[end - start];
+        for(int i = start ; i < end ; i++){
+            chars[i - start] = (char) (this.window.get(i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    private boolean isLineStart(final int pos) {
+        return pos == 0 || this.window.get(pos - 1) == '\n';
+    }
+
+    private boolean isLastWindow() {
+        return this.windowStart + this.window.limit() >= this.fileSize;
+    }
+
+    private void remap(final long offset) {
+        try{
+            mapWindow(offset);
+        }catch(final IOException e){
+            throw new RuntimeException("Cannot map PGN file at offset " + offset, e);
+        }
+    }
+
+    private void mapWindow(final long offset) throws IOException {
+        this.windowStart = offset;
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(this.windowSize, this.fileSize - offset));
+        this.position = 0;
+    }
+
+    private static String stripMoveNumber(final String token) {
+        int index = 0;
+        while(index < token.length() && Character.isDigit(token.charAt(index))){
+            index++;
+        }
+        if(index == 0 || index == token.length() || token.charAt(index) != '.'){
+            return token;
+        }
+        while(index < token.length() && token.charAt(index) == '.'){
+            index++;
+        }
+        return token.substring(index);
+    }
+
+    private static boolean isOutcome(final String token) {
+        return token.equals("1-0") || token.equals("0-1") || token.equals("1/2-1/2") || token.equals(UNKNOWN_OUTCOME);
+    }
+
+    private static boolean isDelimiter(final byte symbol) {
+        return isWhitespace(symbol) || symbol == '{' || symbol == '(' || symbol == ')' || symbol == ';' || symbol == '[';
+    }
+
+    private static boolean isWhitespace(final byte symbol) {
+        return symbol == ' ' || symbol == '\n' || symbol == '\r' || symbol == '\t';
+    }
+}
@@ -0,0 +1,63 @@
+package com.chess.pgn;
+
+import com.chess.board.Board;
+import com.chess.board.Move;
+import com.chess.board.SanNotation;
+import com.chess.player.MoveTransition;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class PGNUtilities {
+
+    private PGNUtilities(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static List<MoveTransition> replay(final PGNGame game) {
+        final List<MoveTransition> transitions = new ArrayList<>(game.getMoves().size());
+        Board board = game.createStartingBoard();
+        for(final String san: game.getMoves()){
+            final Move move = SanNotation.parse(board, san);
+            if(move == Move.NULL_MOVE){
+                throw new RuntimeException("Unknown move " + san + " after " + transitions.size() + " plies in " + game);
+            }
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if(!transition.getMovesStatus().isDone()){
+                throw new RuntimeException("Illegal move " + san + " after " + transitions.size() + " plies in " + game);
+            }
+            transitions.add(transition);
+            board = transition.getBoard();
+        }
+        return transitions;
+    }
+
+    public static Board replayToEnd(final PGNGame game) {
+        final List<MoveTransition> transitions = replay(game);
+        return transitions.isEmpty() ? game.createStartingBoard() : transitions.get(transitions.size() - 1).getBoard();
+    }
+
+    public static String toMoveText(final List<MoveTransition> transitions, final String outcome) {
+        final StringBuilder moveText = new StringBuilder(transitions.size() * 6 + 8);
+        for(int i = 0 ; i < transitions.size() ; i++){
+            final MoveTransition transition = transitions.get(i);
+            final Move move = transition.getMove();
+            final int fullmoveNumber = move.getBoard().getFullmoveNumber();
+            if(move.getBoard().getNextMoveMaker().isWhite()){
+                moveText.append(fullmoveNumber).append(". ");
+            }else if(i == 0){
+                moveText.append(fullmoveNumber).append("... ");
+            }
+            moveText.append(SanNotation.encode(move, transition.getBoard())).append(' ');
+        }
+        return moveText.append(outcome).toString();
+    }
+
+    public static PGNGame readFirstGame(final Path path) throws IOException {
+        try(final PGNReader reader = PGNReader.open(path)){
+            return reader.hasNext() ? reader.next() : null;
+        }
+    }
+}
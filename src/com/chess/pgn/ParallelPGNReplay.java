@@ -0,0 +1,162 @@
+package com.chess.pgn;
+
+import com.chess.player.MoveTransition;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+public final class ParallelPGNReplay {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int PENDING_BATCHES_PER_THREAD = 4;
+
+    private ParallelPGNReplay(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static Summary replay(final Path path, final int threads, final Consumer<GameReplayResult> consumer) throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final Deque<Future<List<GameReplayResult>>> pending = new ArrayDeque<>();
+        final Summary summary = new Summary();
+        final long start = System.nanoTime();
+        try(final PGNReader reader = PGNReader.open(path)){
+            long gameNumber = 1L;
+            List<PGNGame> batch = new ArrayList<>(BATCH_SIZE);
+            while(reader.hasNext()){
+                batch.add(reader.next());
+                if(batch.size() == BATCH_SIZE){
+                    pending.add(pool.submit(new ReplayTask(batch, gameNumber)));
+                    gameNumber += batch.size();
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+                while(pending.size() >= threads * PENDING_BATCHES_PER_THREAD){
+                    drain(pending.poll(), summary, consumer);
+                }
+            }
+            if(!batch.isEmpty()){
+                pending.add(pool.submit(new ReplayTask(batch, gameNumber)));
+            }
+            while(!pending.isEmpty()){
+                drain(pending.poll(), summary, consumer);
+            }
+        }finally{
+            pool.shutdownNow();
+        }
+        summary.elapsedNanos = System.nanoTime() - start;
+        return summary;
+    }
+
+    public static GameReplayResult replay(final PGNGame game, final long gameNumber) {
+        try{
+            final List<MoveTransition> transitions = PGNUtilities.replay(game);
+            final String finalPosition = FenUtilities.createFENFromGame(transitions.isEmpty() ?
+                    game.createStartingBoard() : transitions.get(transitions.size() - 1).getBoard());
+            return new GameReplayResult(gameNumber, game, transitions.size(), finalPosition, null);
+        }catch(final RuntimeException e){
+            return new GameReplayResult(gameNumber, game, 0, null, e.getMessage());
+        }
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if(args.length == 0){
+            System.out.println("usage: ParallelPGNReplay <file.pgn> [threads] [--positions]");
+            return;
+        }
+        final Path path = Paths.get(args[0]);
+        final int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        final boolean printPositions = args.length > 2 && args[2].equals("--positions");
+        final Summary summary = replay(path, threads, new Consumer<GameReplayResult>() {
+            @Override
+            public void accept(final GameReplayResult result) {
+                if(printPositions || !result.isValid()){
+                    System.out.println(result);
+                }
+            }
+        });
+        System.out.println(String.format("%d games (%d illegal), %d plies in %.3f s with %d threads: %.0f games/s",
+                summary.getGames(), summary.getIllegalGames(), summary.getPlies(),
+                summary.getElapsedNanos() / 1e9, threads, summary.getGamesPerSecond()));
+    }
+
+    private static void drain(final Future<List<GameReplayResult>> future,
+                              final Summary summary,
+                              final Consumer<GameReplayResult> consumer) {
+        final List<GameReplayResult> results;
+        try{
+            results = future.get();
+        }catch(final InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while replaying PGN games", e);
+        }catch(final ExecutionException e){
+            throw new RuntimeException("PGN replay failed", e.getCause());
+        }
+        for(final GameReplayResult result: results){
+            summary.games++;
+            summary.plies += result.getPlies();
+            if(!result.isValid()){
+                summary.illegalGames++;
+            }
+            consumer.accept(result);
+        }
+    }
+
+    public static final class Summary {
+        private long games;
+        private long illegalGames;
+        private long plies;
+        private long elapsedNanos;
+
+        Summary(){
+        }
+
+        public long getGames() {
+            return this.games;
+        }
+
+        public long getIllegalGames() {
+            return this.illegalGames;
+        }
+
+        public long getPlies() {
+            return this.plies;
+        }
+
+        public long getElapsedNanos() {
+            return this.elapsedNanos;
+        }
+
+        public double getGamesPerSecond() {
+            return this.games * 1e9 / Math.max(1L, this.elapsedNanos);
+        }
+    }
+
+    private static final class ReplayTask implements Callable<List<GameReplayResult>> {
+        private final List<PGNGame> games;
+        private final long firstGameNumber;
+
+        ReplayTask(final List<PGNGame> games, final long firstGameNumber){
+            this.games = games;
+            this.firstGameNumber = firstGameNumber;
+        }
+
+        @Override
+        public List<GameReplayResult> call() {
+            final List<GameReplayResult> results = new ArrayList<>(this.games.size());
+            for(int i = 0 ; i < this.games.size() ; i++){
+                results.add(replay(this.games.get(i), this.firstGameNumber + i));
+            }
+            return results;
+        }
+    }
+}
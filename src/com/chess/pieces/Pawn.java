@@ -3,16 +3,12 @@ package com.chess.pieces;
 import com.chess.PieceType;
 import com.chess.board.Board;
 import com.chess.board.BoardUtils;
+import com.chess.board.IntMoveList;
 import com.chess.board.Move;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import com.chess.board.PackedMove;
 
 public class Pawn extends Piece{
 
-    private final static int[] POSSIBLE_MOVES = {8, 16, 7, 9};
-
     public Pawn(int piecePosition, PieceType pieceType) {
         super(piecePosition, pieceType, PieceConfig.PAWN, true);
     }
@@ -22,78 +18,51 @@ public class Pawn extends Piece{
     }
 
     @Override
-    public List<Move> calcLegalMoves(Board board) {
-        final List<Move> legalMoves = new ArrayList<>();
-        for(final int move: POSSIBLE_MOVES){
-            int destination = this.pieceType.getDirection() * move + this.piecePosition;
-            if(!BoardUtils.isValidTilePosition(destination)){
-                continue;
+    public void generateMoves(final Board board, final IntMoveList moves) {
+        final int side = this.pieceType.ordinal();
+        final long push = BoardUtils.PAWN_PUSHES[side][this.piecePosition];
+        if(push != 0 && (push & board.getOccupancy()) == 0){
+            final int destination = Long.numberOfTrailingZeros(push);
+            if(this.pieceType.isPawnPromotionSquare(destination)){
+                addPromotions(destination, false, moves);
+            }else{
+                moves.add(PackedMove.create(this.piecePosition, destination, PackedMove.QUIET));
             }
-            if(move == 8 && !board.getTile(destination).isTileOccupied()){
-                if(this.pieceType.isPawnPromotionSquare(destination)){
-                    legalMoves.add(new Move.PawnPromotion(new Move.PawnMove(board, this, destination)));
-                }else{
-                    legalMoves.add(new Move.PawnMove(board, this, destination));
-                }
-            } else if(move == 16 && this.isFirstMove() &&
-                    ( (BoardUtils.SEVENTH_RANK[this.piecePosition] && this.getPieceType().isBlack()) ||
-                    (BoardUtils.SECOND_RANK[this.piecePosition] && this.getPieceType().isWhite()) )
-            ){
-                int positionBehind = this.pieceType.getDirection() * 8 + this.piecePosition;
-                if(!board.getTile(positionBehind).isTileOccupied() && !board.getTile(destination).isTileOccupied()){
-                    legalMoves.add(new Move.PawnJump(board, this, destination));
-                }
-            }else if(move == 7 &&
-                !( (BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceType.isWhite())
-                    || (BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceType.isBlack()) )
-            ){
-                if(board.getTile(destination).isTileOccupied()){
-                    final Piece destinationPiece = board.getTile(destination).getPiece();
-                    if(this.pieceType != destinationPiece.pieceType){
-                        if(this.pieceType.isPawnPromotionSquare(destination)){
-                            legalMoves.add(new Move.PawnPromotion(new Move.PawnAttackMove(board, this, destination, destinationPiece)));
-                        }else {
-                            legalMoves.add(new Move.PawnAttackMove(board, this, destination, destinationPiece));
-                        }
-                    }
-                }else if(board.getEnPassantPawn() != null){
-                    if(board.getEnPassantPawn().getPiecePosition() == (this.piecePosition + (this.pieceType.getOppositeDirection()))){
-                        final Piece pieceOnCand = board.getEnPassantPawn();
-                        if(this.pieceType != pieceOnCand.getPieceType()){
-                            legalMoves.add(new Move.PawnEnPassantAttackMove(board, this, destination, pieceOnCand));
-                        }
-                    }
-                }
-            }else if(move == 9 &&
-                    !( (BoardUtils.FIRST_COLUMN[this.piecePosition] && this.pieceType.isWhite()) ||
-                    (BoardUtils.EIGHTH_COLUMN[this.piecePosition] && this.pieceType.isBlack()) )
-            ){
-                if(board.getTile(destination).isTileOccupied()){
-                    final Piece destinationPiece = board.getTile(destination).getPiece();
-                    if(this.pieceType != destinationPiece.pieceType){
-                        if(this.pieceType.isPawnPromotionSquare(destination)){
-                            legalMoves.add(new Move.PawnPromotion(new Move.PawnAttackMove(board, this, destination, destinationPiece)));
-                        }else {
-                            legalMoves.add(new Move.PawnAttackMove(board, this, destination, destinationPiece));
-                        }
-                    }
-                } else if(board.getEnPassantPawn() != null){
-                    if(board.getEnPassantPawn().getPiecePosition() == (this.piecePosition - (this.pieceType.getOppositeDirection()))){
-                        final Piece pieceOnCand = board.getEnPassantPawn();
-                        if(this.pieceType != pieceOnCand.getPieceType()){
-                            legalMoves.add(new Move.PawnEnPassantAttackMove(board, this, destination, pieceOnCand));
-                        }
-                    }
-                }
-
+            final long jump = BoardUtils.PAWN_JUMPS[side][this.piecePosition];
+            if(jump != 0 && (jump & board.getOccupancy()) == 0){
+                moves.add(PackedMove.create(this.piecePosition, Long.numberOfTrailingZeros(jump), PackedMove.PAWN_JUMP));
+            }
+        }
+        final long attacks = BoardUtils.PAWN_ATTACKS[side][this.piecePosition];
+        long captures = attacks & board.getOccupancy(this.pieceType.opposite());
+        while(captures != 0){
+            final int destination = Long.numberOfTrailingZeros(captures);
+            if(this.pieceType.isPawnPromotionSquare(destination)){
+                addPromotions(destination, true, moves);
+            }else{
+                moves.add(PackedMove.create(this.piecePosition, destination, PackedMove.CAPTURE));
+            }
+            captures &= captures - 1;
+        }
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        if(enPassantPawn != null && enPassantPawn.getPieceType() != this.pieceType){
+            final int destination = enPassantPawn.getPiecePosition() + this.pieceType.getDirection() * BoardUtils.NUM_TILES_PER_ROW;
+            if((attacks & (1L << destination)) != 0){
+                moves.add(PackedMove.create(this.piecePosition, destination, PackedMove.EN_PASSANT));
             }
         }
-        return Collections.unmodifiableList(legalMoves);
+    }
+
+    private void addPromotions(final int destination, final boolean capture, final IntMoveList moves) {
+        moves.add(PackedMove.createPromotion(this.piecePosition, destination, capture, PieceConfig.QUEEN));
+        moves.add(PackedMove.createPromotion(this.piecePosition, destination, capture, PieceConfig.ROOK));
+        moves.add(PackedMove.createPromotion(this.piecePosition, destination, capture, PieceConfig.BISHOP));
+        moves.add(PackedMove.createPromotion(this.piecePosition, destination, capture, PieceConfig.KNIGHT));
     }
 
     @Override
     public Pawn movePiece(Move move) {
-        return new Pawn(move.getDestinationPosition(), move.getMovedPiece().getPieceType());
+        return PieceCache.pawn(move.getDestinationPosition(), move.getMovedPiece().getPieceType(), false);
     }
 
     @Override
@@ -102,6 +71,21 @@ public class Pawn extends Piece{
     }
 
     public Piece getPromotionPiece() {
-        return new Queen(this.getPiecePosition(), this.getPieceType(), false);
+        return getPromotionPiece(PieceConfig.QUEEN);
+    }
+
+    public Piece getPromotionPiece(final PieceConfig promotionConfig) {
+        switch(promotionConfig){
+            case KNIGHT:
+                return PieceCache.knight(this.getPiecePosition(), this.getPieceType(), false);
+            case BISHOP:
+                return PieceCache.bishop(this.getPiecePosition(), this.getPieceType(), false);
+            case ROOK:
+                return PieceCache.rook(this.getPiecePosition(), this.getPieceType(), false);
+            case QUEEN:
+                return PieceCache.queen(this.getPiecePosition(), this.getPieceType(), false);
+            default:
+                throw new RuntimeException("Cannot promote to " + promotionConfig);
+        }
     }
 }
@@ -2,8 +2,12 @@ package com.chess.pieces;
 
 import com.chess.PieceType;
 import com.chess.board.Board;
+import com.chess.board.IntMoveList;
 import com.chess.board.Move;
+import com.chess.board.PackedMove;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class Piece {
@@ -52,7 +56,28 @@ public abstract class Piece {
         return pieceConfig;
     }
 
-    public abstract List<Move> calcLegalMoves(final Board board);
+    public List<Move> calcLegalMoves(final Board board) {
+        final IntMoveList moves = new IntMoveList(32);
+        generateMoves(board, moves);
+        final List<Move> legalMoves = new ArrayList<>(moves.size());
+        for(int i = 0 ; i < moves.size() ; i++){
+            legalMoves.add(PackedMove.toMove(board, moves.get(i)));
+        }
+        return Collections.unmodifiableList(legalMoves);
+    }
+
+    public abstract void generateMoves(final Board board, final IntMoveList moves);
+
+    protected void addMoves(final Board board, final long attacks, final IntMoveList moves) {
+        final long enemies = board.getOccupancy(this.pieceType.opposite());
+        long destinations = attacks & ~board.getOccupancy(this.pieceType);
+        while(destinations != 0){
+            final int destination = Long.numberOfTrailingZeros(destinations);
+            moves.add(PackedMove.create(this.piecePosition, destination,
+                    (enemies & (1L << destination)) != 0 ? PackedMove.CAPTURE : PackedMove.QUIET));
+            destinations &= destinations - 1;
+        }
+    }
 
     public PieceType getPieceType() {
         return this.pieceType;
@@ -65,7 +90,7 @@ public abstract class Piece {
     public boolean isKing() { return false;}
 
 
-    public Integer getPiecePosition(){
+    public int getPiecePosition(){
         return this.piecePosition;
     }
 
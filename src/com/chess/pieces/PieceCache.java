@@ -0,0 +1,96 @@
+package com.chess.pieces;
+
+import com.chess.PieceType;
+import com.chess.board.BoardUtils;
+
+public final class PieceCache {
+
+    private static final int NUM_CONFIGS = Piece.PieceConfig.values().length;
+    private static final int NUM_TYPES = PieceType.values().length;
+
+    public static final int NUM_PIECES = NUM_CONFIGS * NUM_TYPES * BoardUtils.NUM_TILES * 2;
+
+    private static final Piece[] PIECES = initPieces();
+
+    private PieceCache(){
+        throw new RuntimeException("Cannot instantiate this");
+    }
+
+    public static Piece get(final Piece.PieceConfig pieceConfig,
+                            final PieceType pieceType,
+                            final int piecePosition,
+                            final boolean isFirstMove) {
+        return PIECES[index(pieceConfig.ordinal(), pieceType.ordinal(), piecePosition, isFirstMove)];
+    }
+
+    public static Piece get(final int index) {
+        return PIECES[index];
+    }
+
+    public static int indexOf(final Piece piece) {
+        return index(piece.getPieceConfig().ordinal(), piece.getPieceType().ordinal(), piece.getPiecePosition(), piece.isFirstMove());
+    }
+
+    public static Pawn pawn(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (Pawn) get(Piece.PieceConfig.PAWN, pieceType, piecePosition, isFirstMove);
+    }
+
+    public static Knight knight(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (Knight) get(Piece.PieceConfig.KNIGHT, pieceType, piecePosition, isFirstMove);
+    }
+
+    public static Bishop bishop(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (Bishop) get(Piece.PieceConfig.BISHOP, pieceType, piecePosition, isFirstMove);
+    }
+
+    public static Rook rook(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (Rook) get(Piece.PieceConfig.ROOK, pieceType, piecePosition, isFirstMove);
+    }
+
+    public static Queen queen(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (Queen) get(Piece.PieceConfig.QUEEN, pieceType, piecePosition, isFirstMove);
+    }
+
+    public static King king(final int piecePosition, final PieceType pieceType, final boolean isFirstMove) {
+        return (King) get(Piece.PieceConfig.KING, pieceType, piecePosition, isFirstMove);
+    }
+
+    private static Piece[] initPieces() {
+        final Piece[] pieces = new Piece[NUM_PIECES];
+        for(final Piece.PieceConfig pieceConfig: Piece.PieceConfig.values()){
+            for(final PieceType pieceType: PieceType.values()){
+                for(int position = 0 ; position < BoardUtils.NUM_TILES ; position++){
+                    pieces[index(pieceConfig.ordinal(), pieceType.ordinal(), position, true)] =
+                            createPiece(pieceConfig, pieceType, position, true);
+                    pieces[index(pieceConfig.ordinal(), pieceType.ordinal(), position, false)] =
+                            createPiece(pieceConfig, pieceType, position, false);
+                }
+            }
+        }
+        return pieces;
+    }
+
+    private static Piece createPiece(final Piece.PieceConfig pieceConfig,
+                                     final PieceType pieceType,
+                                     final int position,
+                                     final boolean isFirstMove) {
+        switch(pieceConfig){
+            case PAWN:
+                return new Pawn(position, pieceType, isFirstMove);
+            case KNIGHT:
+                return new Knight(position, pieceType, isFirstMove);
+            case BISHOP:
+                return new Bishop(position, pieceType, isFirstMove);
+            case ROOK:
+                return new Rook(position, pieceType, isFirstMove);
+            case QUEEN:
+                return new Queen(position, pieceType, isFirstMove);
+            default:
+                return new King(position, pieceType, isFirstMove);
+        }
+    }
+
+    private static int index(final int config, final int type, final int position, final boolean isFirstMove) {
+        return (((config * NUM_TYPES + type) * BoardUtils.NUM_TILES) + position) * 2 + (isFirstMove ? 1 : 0);
+    }
+}
@@ -12,10 +12,8 @@ import java.util.Collections;
 import java.util.List;
 
 public class BlackPlayer extends Player{
-    public BlackPlayer(Board board,
-                       List<Move> blackMoves, List<Move> whiteMoves) {
-        super(board, blackMoves, whiteMoves);
-
+    public BlackPlayer(Board board) {
+        super(board);
     }
 
     @Override
@@ -34,15 +32,15 @@ public class BlackPlayer extends Player{
     }
 
     @Override
-    protected List<Move> calculateKingCastles(final List<Move> playerLegalMoves, final List<Move> opponentLegalMoves) {
+    protected List<Move> calculateKingCastles() {
         final List<Move> kingCastles = new ArrayList<>();
         if(this.playerKing.isFirstMove() && !this.isInChecked()){
-            if(!this.board.getTile(5).isTileOccupied()
-                    && !this.board.getTile(6).isTileOccupied()){
+            if(!this.board.isTileOccupied(5)
+                    && !this.board.isTileOccupied(6)){
                 final ChessTile rookTile = this.board.getTile(7);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
-                    if(Player.calculateAttacksOnTile(5, opponentLegalMoves).isEmpty()
-                            && Player.calculateAttacksOnTile(6, opponentLegalMoves).isEmpty() &&
+                    if(!this.board.isSquareAttacked(5, PieceType.WHITE)
+                            && !this.board.isSquareAttacked(6, PieceType.WHITE) &&
                             rookTile.getPiece().getPieceConfig().isRook()){
                         kingCastles.add(new Move.KingSideCastleMove(
                                 this.board,
@@ -56,13 +54,13 @@ public class BlackPlayer extends Player{
 
                 }
             }
-            if(!this.board.getTile(1).isTileOccupied()
-                    && !this.board.getTile(2).isTileOccupied()
-                    && !this.board.getTile(3).isTileOccupied()){
+            if(!this.board.isTileOccupied(1)
+                    && !this.board.isTileOccupied(2)
+                    && !this.board.isTileOccupied(3)){
                 final ChessTile rookTile = this.board.getTile(0);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()
-                 && Player.calculateAttacksOnTile(2, opponentLegalMoves).isEmpty()
-                 && Player.calculateAttacksOnTile(3, opponentLegalMoves).isEmpty()
+                 && !this.board.isSquareAttacked(2, PieceType.WHITE)
+                 && !this.board.isSquareAttacked(3, PieceType.WHITE)
                  && rookTile.getPiece().getPieceConfig().isRook()){
                     kingCastles.add(new Move.QueenSideCastleMove(
                             this.board,
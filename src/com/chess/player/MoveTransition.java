@@ -24,4 +24,8 @@ public class MoveTransition {
     public Board getBoard() {
         return this.transitionBoard;
     }
+
+    public Move getMove() {
+        return this.move;
+    }
 }
@@ -2,36 +2,27 @@ package com.chess.player;
 
 import com.chess.PieceType;
 import com.chess.board.Board;
+import com.chess.board.IntMoveList;
 import com.chess.board.Move;
+import com.chess.board.PackedMove;
 import com.chess.pieces.King;
 import com.chess.pieces.Piece;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
-    protected final List<Move> legalMoves;
-    private final boolean isInCheck;
+    private volatile List<Move> legalMoves;
+    private volatile Boolean isInCheck;
+    private volatile int[] fullyLegalMoves;
 
-    Player(final Board board, List<Move> legalMoves, List<Move> opponentMoves){
+    Player(final Board board){
         this.board = board;
         this.playerKing = setKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateKingCastles(legalMoves, opponentMoves)));
-        this.isInCheck = !Player.calculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
-    }
-
-    protected static List<Move> calculateAttacksOnTile(int piecePosition, List<Move> opponentMoves) {
-        final List<Move> attackMoves = new ArrayList<>();
-        for(Move move: opponentMoves){
-            if(piecePosition == move.getDestinationPosition()){
-                attackMoves.add(move);
-            }
-        }
-        return ImmutableList.copyOf(attackMoves);
     }
 
     public King setKing(){
@@ -50,17 +41,25 @@ public abstract class Player {
     public abstract Player getOpponent();
 
     public boolean isMoveLegal(final Move move){
-        return this.legalMoves.contains(move);
+        final Move indexed = this.board.findMove(getPieceType(), move.getCurrentPosition(), move.getDestinationPosition(),
+                move instanceof Move.PawnPromotion ? ((Move.PawnPromotion) move).getPromotionConfig() : null);
+        return indexed != Move.NULL_MOVE && indexed.equals(move);
     }
 
     private boolean hasEscapeMoves(){
-        for(final Move move: legalMoves){
-            final MoveTransition transition = makeMove(move);
-            if(transition.getMovesStatus().isDone()){
-                return true;
-            }
+        return getFullyLegalMoves().length > 0;
+    }
+
+    private int[] getFullyLegalMoves(){
+        int[] moves = this.fullyLegalMoves;
+        if(moves == null){
+            final IntMoveList generated = new IntMoveList();
+            this.board.generateLegalMoves(getPieceType(), generated);
+            moves = generated.toArray();
+            Arrays.sort(moves);
+            this.fullyLegalMoves = moves;
         }
-        return false;
+        return moves;
     }
 
     public King getPlayerKing() {
@@ -68,20 +67,29 @@ public abstract class Player {
     }
 
     public List<Move> getLegalMoves() {
-        return this.legalMoves;
+        List<Move> moves = this.legalMoves;
+        if(moves == null){
+            moves = ImmutableList.copyOf(Iterables.concat(this.board.getPieceMoves(getPieceType()), calculateKingCastles()));
+            this.legalMoves = moves;
+        }
+        return moves;
     }
 
-    // TODO
     public boolean isInChecked(){
-        return this.isInCheck;
+        Boolean inCheck = this.isInCheck;
+        if(inCheck == null){
+            inCheck = this.board.isSquareAttacked(this.playerKing.getPiecePosition(), getPieceType().opposite());
+            this.isInCheck = inCheck;
+        }
+        return inCheck;
     }
 
     public boolean isInCheckMate(){
-        return this.isInCheck && !hasEscapeMoves();
+        return isInChecked() && !hasEscapeMoves();
     }
 
     public boolean isInStaleMate(){
-        return !this.isInCheck && !hasEscapeMoves();
+        return !isInChecked() && !hasEscapeMoves();
     }
 
     public boolean isCastled(){
@@ -92,18 +100,13 @@ public abstract class Player {
         if(!isMoveLegal(move)){
             return new MoveTransition(this.board, move, MoveStatus.ILLEGAL_MOVE);
         }
-        final Board transitionBoard = move.execute();
-        final List<Move> kingAttacks = Player.calculateAttacksOnTile(transitionBoard.currentPlayer().
-                        getOpponent().getPlayerKing().getPiecePosition(),
-                    transitionBoard.currentPlayer().getLegalMoves());
-
-        if(kingAttacks != null && !kingAttacks.isEmpty()){
+        if(Arrays.binarySearch(getFullyLegalMoves(), PackedMove.fromMove(move)) < 0){
             return new MoveTransition(this.board, move, MoveStatus.LEAVES_PLAYER_IN_CHECK);
         }
 
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
 
-    protected abstract List<Move> calculateKingCastles(List<Move> playerLegalMoves, List<Move> opponentLegalMoves);
+    protected abstract List<Move> calculateKingCastles();
 
 }
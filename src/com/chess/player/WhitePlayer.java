@@ -12,10 +12,8 @@ import java.util.Collections;
 import java.util.List;
 
 public class WhitePlayer extends Player{
-    public WhitePlayer(Board board,
-                       List<Move> whiteMoves, List<Move> blackMoves) {
-        super(board, whiteMoves, blackMoves);
-
+    public WhitePlayer(Board board) {
+        super(board);
     }
 
     @Override
@@ -34,14 +32,14 @@ public class WhitePlayer extends Player{
     }
 
     @Override
-    protected List<Move> calculateKingCastles(final List<Move> playerLegalMoves, final List<Move> opponentLegalMoves) {
+    protected List<Move> calculateKingCastles() {
         final List<Move> kingCastles = new ArrayList<>();
         if(this.playerKing.isFirstMove() && !this.isInChecked()){
-            if(!this.board.getTile(61).isTileOccupied() && !this.board.getTile(62).isTileOccupied()){
+            if(!this.board.isTileOccupied(61) && !this.board.isTileOccupied(62)){
                 final ChessTile rookTile = this.board.getTile(63);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()){
-                    if(Player.calculateAttacksOnTile(61, opponentLegalMoves).isEmpty()
-                     && Player.calculateAttacksOnTile(62, opponentLegalMoves).isEmpty() &&
+                    if(!this.board.isSquareAttacked(61, PieceType.BLACK)
+                     && !this.board.isSquareAttacked(62, PieceType.BLACK) &&
                      rookTile.getPiece().getPieceConfig().isRook()){
                         kingCastles.add(new Move.KingSideCastleMove(
                                 this.board,
@@ -55,13 +53,13 @@ public class WhitePlayer extends Player{
 
                 }
             }
-            if(!this.board.getTile(59).isTileOccupied()
-                    && !this.board.getTile(58).isTileOccupied()
-                    && !this.board.getTile(57).isTileOccupied()){
+            if(!this.board.isTileOccupied(59)
+                    && !this.board.isTileOccupied(58)
+                    && !this.board.isTileOccupied(57)){
                 final ChessTile rookTile = this.board.getTile(56);
                 if(rookTile.isTileOccupied() && rookTile.getPiece().isFirstMove()
-                 && Player.calculateAttacksOnTile(59, opponentLegalMoves).isEmpty()
-                 && Player.calculateAttacksOnTile(58, opponentLegalMoves).isEmpty()
+                 && !this.board.isSquareAttacked(59, PieceType.BLACK)
+                 && !this.board.isSquareAttacked(58, PieceType.BLACK)
                  && rookTile.getPiece().getPieceConfig().isRook()){
                     // TODO
                     kingCastles.add(new Move.QueenSideCastleMove(
@@ -1,8 +1,22 @@
 package com.test.chess.board;
 
+import com.chess.PieceType;
 import com.chess.board.Board;
+import com.chess.board.BoardUtils;
+import com.chess.board.GameStatus;
+import com.chess.board.Move;
+import com.chess.board.PieceSquareTables;
+import com.chess.board.SanNotation;
+import com.chess.board.Zobrist;
+import com.chess.pgn.FenUtilities;
+import com.chess.pieces.Piece;
+import com.chess.pieces.PieceCache;
+import com.chess.player.MoveTransition;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoardTest {
@@ -20,4 +34,169 @@ class BoardTest {
         assertFalse(board.currentPlayer().getOpponent().isInCheckMate());
         assertFalse(board.currentPlayer().getOpponent().isCastled());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void standardBoardBitboards(){
+        final Board board = Board.createStandardBoard();
+        assertEquals(board.getOccupancy(PieceType.BLACK), 0xFFFFL);
+        assertEquals(board.getOccupancy(PieceType.WHITE), 0xFFFFL << 48);
+        assertEquals(board.getBitboard(PieceType.WHITE, Piece.PieceConfig.KING), 1L << 60);
+        assertEquals(board.getBitboard(PieceType.BLACK, Piece.PieceConfig.PAWN), 0xFF00L);
+        assertEquals(board.getWhitePieces().size(), 16);
+        assertEquals(board.getBlackPieces().size(), 16);
+        assertFalse(board.isTileOccupied(36));
+        assertEquals(board.getPiece(4), board.getTile(4).getPiece());
+    }
+
+    @Test
+    public void leaperTablesStayOnBoard(){
+        assertEquals(Long.bitCount(BoardUtils.KING_ATTACKS[7]), 3);
+        assertEquals(BoardUtils.KING_ATTACKS[7] & (1L << 8), 0L);
+        assertEquals(Long.bitCount(BoardUtils.KING_ATTACKS[56]), 3);
+        assertEquals(Long.bitCount(BoardUtils.KNIGHT_ATTACKS[0]), 2);
+        assertEquals(Long.bitCount(BoardUtils.KNIGHT_ATTACKS[27]), 8);
+        assertEquals(BoardUtils.PAWN_ATTACKS[PieceType.WHITE.ordinal()][48], 1L << 41);
+        assertEquals(BoardUtils.PAWN_JUMPS[PieceType.BLACK.ordinal()][12], 1L << 28);
+        assertEquals(BoardUtils.PAWN_JUMPS[PieceType.WHITE.ordinal()][44], 0L);
+    }
+
+    @Test
+    public void zobristKeyTracksTranspositions(){
+        final Board first = play(Board.createStandardBoard(), "g1", "f3", "g8", "f6", "b1", "c3");
+        final Board second = play(Board.createStandardBoard(), "b1", "c3", "g8", "f6", "g1", "f3");
+        assertEquals(first.getZobristKey(), second.getZobristKey());
+        assertEquals(first.getZobristKey(), Zobrist.calculateKey(first));
+        final Board jumped = play(Board.createStandardBoard(), "e2", "e4");
+        assertEquals(jumped.getZobristKey(), Zobrist.calculateKey(jumped));
+        assertFalse(jumped.getZobristKey() == play(Board.createStandardBoard(), "e2", "e3", "e7", "e6", "e3", "e4").getZobristKey());
+    }
+
+    @Test
+    public void squareAttackQueries(){
+        final Board board = Board.createStandardBoard();
+        final int f3 = BoardUtils.getCoordinateAtPosition("f3");
+        assertTrue(board.isSquareAttacked(f3, PieceType.WHITE));
+        assertFalse(board.isSquareAttacked(f3, PieceType.BLACK));
+        assertEquals(board.attackersOf(f3), (1L << 62) | (1L << 52) | (1L << 54));
+        assertEquals(board.attackersOf(BoardUtils.getCoordinateAtPosition("e4")), 0L);
+        final Board opened = play(board, "e2", "e4", "f7", "f6", "d1", "h5");
+        assertTrue(opened.currentPlayer().isInChecked());
+        assertEquals(opened.attackersOf(BoardUtils.getCoordinateAtPosition("e8")) & opened.getOccupancy(PieceType.WHITE),
+                1L << BoardUtils.getCoordinateAtPosition("h5"));
+    }
+
+    @Test
+    public void gameStatusIsMemoizedPerBoard(){
+        final Board board = Board.createStandardBoard();
+        assertEquals(board.getGameStatus(), GameStatus.ONGOING);
+        assertEquals(play(board, "e2", "e4", "f7", "f6", "d1", "h5").getGameStatus(), GameStatus.CHECK);
+        final Board mated = play(board, "f2", "f3", "e7", "e5", "g2", "g4", "d8", "h4");
+        assertEquals(mated.getGameStatus(), GameStatus.CHECKMATE);
+        assertTrue(mated.getGameStatus() == mated.getGameStatus());
+        assertTrue(mated.getGameStatus().isGameOver());
+    }
+
+    @Test
+    public void moveIndexFindsLegalMoves(){
+        final Board board = Board.createStandardBoard();
+        final int e2 = BoardUtils.getCoordinateAtPosition("e2");
+        final int e4 = BoardUtils.getCoordinateAtPosition("e4");
+        final Move jump = Move.MoveFactory.createMove(board, e2, e4);
+        assertTrue(board.currentPlayer().getLegalMoves().contains(jump));
+        assertTrue(board.currentPlayer().isMoveLegal(jump));
+        assertFalse(board.currentPlayer().getOpponent().isMoveLegal(jump));
+        assertEquals(Move.MoveFactory.createMove(board, e2, BoardUtils.getCoordinateAtPosition("e5")), Move.NULL_MOVE);
+        assertEquals(Move.MoveFactory.createMove(board, -1, 65), Move.NULL_MOVE);
+        final Board promoting = play(board, "h2", "h4", "g7", "g5", "h4", "g5", "g8", "f6", "g5", "g6", "f6", "g8",
+                "g6", "g7", "g8", "f6");
+        final Move underPromotion = Move.MoveFactory.createMove(promoting,
+                BoardUtils.getCoordinateAtPosition("g7"), BoardUtils.getCoordinateAtPosition("h8"), Piece.PieceConfig.KNIGHT);
+        assertTrue(underPromotion instanceof Move.PawnPromotion);
+        assertEquals(((Move.PawnPromotion) underPromotion).getPromotionConfig(), Piece.PieceConfig.KNIGHT);
+        assertTrue(promoting.currentPlayer().isMoveLegal(underPromotion));
+        assertEquals(Move.MoveFactory.createMove(board, e2, e4, Piece.PieceConfig.QUEEN), Move.NULL_MOVE);
+    }
+
+    @Test
+    public void piecesAreSharedAcrossBoards(){
+        final Board first = play(Board.createStandardBoard(), "g1", "f3");
+        final Board second = play(Board.createStandardBoard(), "g1", "f3");
+        final int f3 = BoardUtils.getCoordinateAtPosition("f3");
+        assertTrue(first.getPiece(f3) == second.getPiece(f3));
+        assertTrue(first.getPiece(f3) == PieceCache.knight(f3, PieceType.WHITE, false));
+        assertTrue(Board.createStandardBoard().getPiece(0) == PieceCache.rook(0, PieceType.BLACK, true));
+        assertTrue(first.getTile(f3) == second.getTile(f3));
+        assertTrue(first.getTile(0) == Board.createStandardBoard().getTile(0));
+    }
+
+    @Test
+    public void fenRoundTrips(){
+        final String startingFen = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+        assertEquals(FenUtilities.createFENFromGame(Board.createStandardBoard()), startingFen);
+        final Board jumped = play(FenUtilities.createGameFromFEN(startingFen), "e2", "e4", "g8", "f6", "e4", "e5", "d7", "d5");
+        final String jumpedFen = "rnbqkb1r/ppp1pppp/5n2/3pP3/8/8/PPPP1PPP/RNBQKBNR w KQkq d6 0 3";
+        assertEquals(FenUtilities.createFENFromGame(jumped), jumpedFen);
+        final Board parsed = FenUtilities.createGameFromFEN(
+                ByteBuffer.wrap((jumpedFen + "\n" + startingFen).getBytes(StandardCharsets.US_ASCII)));
+        assertEquals(parsed.getZobristKey(), jumped.getZobristKey());
+        assertEquals(FenUtilities.createFENFromGame(parsed), jumpedFen);
+        final String kiwipete = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+        assertEquals(FenUtilities.createFENFromGame(FenUtilities.createGameFromFEN(kiwipete)), kiwipete);
+        assertEquals(FenUtilities.createFENFromGame(play(FenUtilities.createGameFromFEN(kiwipete), "e1", "g1")),
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R4RK1 b kq - 1 1");
+    }
+
+    @Test
+    public void sanRoundTripsWithDisambiguation(){
+        final Board board = FenUtilities.createGameFromFEN("3k4/1P6/8/3N1N2/8/R6R/8/4K3 w - - 0 1");
+        final String[] expected = {"Rad3", "Rhd3", "Nfe7", "Nde7", "b8=Q+", "b8=N", "Ke2", "Kd2"};
+        for(final String san: expected){
+            final Move move = SanNotation.parse(board, san);
+            assertFalse(move == Move.NULL_MOVE, san);
+            assertEquals(move.toString() + (san.endsWith("+") ? "+" : ""), san);
+        }
+        final Board twoRooks = FenUtilities.createGameFromFEN("4k3/8/8/R7/8/8/8/R3K3 w - - 0 1");
+        assertEquals(SanNotation.parse(twoRooks, "R5a3").toString(), "R5a3");
+        assertEquals(SanNotation.parse(twoRooks, "Ra3"), Move.NULL_MOVE);
+        assertEquals(SanNotation.parse(Board.createStandardBoard(), "Nf3").toString(), "Nf3");
+        assertEquals(SanNotation.parse(Board.createStandardBoard(), "Nd2"), Move.NULL_MOVE);
+        assertEquals(SanNotation.parse(Board.createStandardBoard(), "e4=Q"), Move.NULL_MOVE);
+        assertEquals(SanNotation.parse(Board.createStandardBoard(), "Nf3=Q"), Move.NULL_MOVE);
+    }
+
+    @Test
+    public void evaluationIsUpdatedIncrementally(){
+        final Board standard = Board.createStandardBoard();
+        assertEquals(standard.getMiddlegameScore(), 0);
+        assertEquals(standard.getEndgameScore(), 0);
+        assertEquals(standard.getGamePhase(), PieceSquareTables.MAX_PHASE);
+        assertEvaluationMatches(standard, 2);
+        assertEvaluationMatches(FenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1"), 2);
+        assertEvaluationMatches(FenUtilities.createGameFromFEN("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"), 2);
+        assertEvaluationMatches(FenUtilities.createGameFromFEN("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1"), 1);
+    }
+
+    private static void assertEvaluationMatches(final Board board, final int depth){
+        assertEquals(board.getMiddlegameScore(), PieceSquareTables.calculateMiddlegameScore(board));
+        assertEquals(board.getEndgameScore(), PieceSquareTables.calculateEndgameScore(board));
+        if(depth == 0){
+            return;
+        }
+        for(final Move move: board.currentPlayer().getLegalMoves()){
+            final MoveTransition transition = board.currentPlayer().makeMove(move);
+            if(transition.getMovesStatus().isDone()){
+                assertEvaluationMatches(transition.getBoard(), depth - 1);
+            }
+        }
+    }
+
+    private static Board play(final Board board, final String... squares){
+        Board current = board;
+        for(int i = 0 ; i < squares.length ; i += 2){
+            final Move move = Move.MoveFactory.createMove(current,
+                    BoardUtils.getCoordinateAtPosition(squares[i]), BoardUtils.getCoordinateAtPosition(squares[i + 1]));
+            current = current.currentPlayer().makeMove(move).getBoard();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,49 @@
+package com.test.chess.board;
+
+import com.chess.PieceType;
+import com.chess.board.Board;
+import com.chess.board.BoardUtils;
+import com.chess.board.IntMoveList;
+import com.chess.board.Move;
+import com.chess.board.PackedMove;
+import com.chess.board.Position;
+import com.chess.pieces.Piece;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionTest {
+    @Test
+    public void makeAndUnmakeRestoresPosition(){
+        final Board board = Board.createStandardBoard();
+        final Position position = new Position(board);
+        final Move move = Move.MoveFactory.createMove(board,
+                BoardUtils.getCoordinateAtPosition("e2"), BoardUtils.getCoordinateAtPosition("e4"));
+        position.makeMove(move);
+        assertEquals(position.getSideToMove(), PieceType.BLACK);
+        assertEquals(position.getEnPassantSquare(), BoardUtils.getCoordinateAtPosition("e3"));
+        assertEquals(position.getPiece(BoardUtils.getCoordinateAtPosition("e2")), Position.EMPTY);
+        assertEquals(position.getBitboard(PieceType.WHITE, Piece.PieceConfig.PAWN),
+                move.execute().getBitboard(PieceType.WHITE, Piece.PieceConfig.PAWN));
+        position.unmakeMove();
+        assertEquals(position.getSideToMove(), PieceType.WHITE);
+        assertEquals(position.getEnPassantSquare(), Position.NO_SQUARE);
+        assertEquals(position.getOccupancy(), board.getOccupancy());
+        assertEquals(position.getCastlingRights(), BoardUtils.WHITE_KING_SIDE | BoardUtils.WHITE_QUEEN_SIDE
+                | BoardUtils.BLACK_KING_SIDE | BoardUtils.BLACK_QUEEN_SIDE);
+        assertEquals(position.getPly(), 0);
+    }
+
+    @Test
+    public void generatesPackedMoves(){
+        final Board board = Board.createStandardBoard();
+        final IntMoveList moves = new IntMoveList();
+        new Position(board).generateMoves(moves);
+        assertEquals(moves.size(), 20);
+        for(final Move move: board.currentPlayer().getLegalMoves()){
+            final int packed = PackedMove.fromMove(move);
+            assertTrue(moves.contains(packed));
+            assertEquals(PackedMove.toMove(board, packed), move);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.test.chess.board;
+
+import com.chess.board.Board;
+import com.chess.board.PackedMove;
+import com.chess.board.TranspositionTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+    @Test
+    public void storesAndProbesByBoardKey(){
+        final TranspositionTable table = new TranspositionTable(1);
+        final Board board = Board.createStandardBoard();
+        final int move = PackedMove.create(52, 36, PackedMove.PAWN_JUMP);
+        assertEquals(table.probe(board.getZobristKey()), TranspositionTable.NO_ENTRY);
+        table.store(board.getZobristKey(), move, -35, 6, TranspositionTable.EXACT);
+        final long entry = table.probe(board.getZobristKey());
+        assertEquals(TranspositionTable.getMove(entry), move);
+        assertEquals(TranspositionTable.getScore(entry), -35);
+        assertEquals(TranspositionTable.getDepth(entry), 6);
+        assertEquals(TranspositionTable.getBound(entry), TranspositionTable.EXACT);
+        assertEquals(table.probe(board.getZobristKey() ^ 1L << 40), TranspositionTable.NO_ENTRY);
+    }
+
+    @Test
+    public void prefersDeeperEntriesFromTheCurrentSearch(){
+        final TranspositionTable table = new TranspositionTable(1);
+        final long key = 0x123456789ABCDEFL;
+        table.store(key, PackedMove.create(1, 2, PackedMove.QUIET), 10, 8, TranspositionTable.LOWER_BOUND);
+        table.store(key, PackedMove.NO_MOVE, 20, 3, TranspositionTable.UPPER_BOUND);
+        assertEquals(TranspositionTable.getDepth(table.probe(key)), 8);
+        table.newSearch();
+        table.store(key, PackedMove.NO_MOVE, 20, 3, TranspositionTable.UPPER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(TranspositionTable.getDepth(entry), 3);
+        assertEquals(TranspositionTable.getMove(entry), PackedMove.create(1, 2, PackedMove.QUIET));
+    }
+}
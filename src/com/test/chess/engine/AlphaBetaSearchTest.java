@@ -0,0 +1,53 @@
+package com.test.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.engine.AlphaBetaSearch;
+import com.chess.engine.MaterialEvaluator;
+import com.chess.engine.SearchListener;
+import com.chess.engine.SearchResult;
+import com.chess.pgn.FenUtilities;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaSearchTest {
+
+    @Test
+    public void findsMatesAndWinsMaterial(){
+        final List<SearchResult> iterations = new ArrayList<>();
+        final AlphaBetaSearch search = new AlphaBetaSearch(new MaterialEvaluator(), new SearchListener() {
+            @Override
+            public void onIteration(final SearchResult result) {
+                iterations.add(result);
+            }
+        });
+
+        final SearchResult backRankMate = search.search(FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 0 1"), 4);
+        assertEquals(backRankMate.getBestMove().toString(), "Ra8");
+        assertTrue(backRankMate.isMate());
+        assertEquals(backRankMate.getMateDistance(), 1);
+
+        final SearchResult mateOnFiftiethMove = search.search(FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/5PPP/R5K1 w - - 99 80"), 2);
+        assertEquals(mateOnFiftiethMove.getBestMove().toString(), "Ra8");
+        assertTrue(mateOnFiftiethMove.isMate());
+
+        iterations.clear();
+        final Board hangingQueen = FenUtilities.createGameFromFEN("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+        final SearchResult capture = search.search(hangingQueen, 3);
+        assertEquals(capture.getBestMove().toString(), "Rxd5");
+        assertEquals(capture.getPrincipalVariation().size(), 3);
+        assertEquals(iterations.size(), 3);
+        for(int i = 0 ; i < iterations.size() ; i++){
+            assertEquals(iterations.get(i).getDepth(), i + 1);
+            assertTrue(iterations.get(i).getNodes() > 0);
+        }
+        assertTrue(iterations.get(2).getNodes() > iterations.get(1).getNodes());
+
+        final SearchResult stalemate = search.search(FenUtilities.createGameFromFEN("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1"), 3);
+        assertEquals(stalemate.getScore(), 0);
+        assertTrue(stalemate.getPrincipalVariation().isEmpty());
+    }
+}
@@ -0,0 +1,35 @@
+package com.test.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.engine.LazySMPSearch;
+import com.chess.engine.MaterialEvaluator;
+import com.chess.engine.SearchListener;
+import com.chess.engine.SearchResult;
+import com.chess.pgn.FenUtilities;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazySMPSearchTest {
+
+    @Test
+    public void helpersShareTheTableAndFixedNodesReproduce(){
+        final Board hangingQueen = FenUtilities.createGameFromFEN("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+        final LazySMPSearch parallel = new LazySMPSearch(new MaterialEvaluator(), SearchListener.NONE, 3, 1);
+        final SearchResult result = parallel.search(hangingQueen, 4);
+        assertEquals(result.getDepth(), 4);
+        assertEquals(result.getBestMove().toString(), "Rxd5");
+        assertTrue(parallel.getTable().hashfull() > 0);
+
+        final Board kiwipete = FenUtilities.createGameFromFEN("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        final SearchResult first = new LazySMPSearch(new MaterialEvaluator(), SearchListener.NONE, 3, 1)
+                .searchFixedNodes(kiwipete, 4, 5000);
+        final SearchResult second = new LazySMPSearch(new MaterialEvaluator(), SearchListener.NONE, 3, 1)
+                .searchFixedNodes(kiwipete, 4, 5000);
+        assertEquals(second.getDepth(), first.getDepth());
+        assertEquals(second.getScore(), first.getScore());
+        assertEquals(second.getNodes(), first.getNodes());
+        assertEquals(second.getPrincipalVariation(), first.getPrincipalVariation());
+        assertTrue(first.getNodes() <= 3 * 5000);
+    }
+}
@@ -0,0 +1,42 @@
+package com.test.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.board.Move;
+import com.chess.board.PackedMove;
+import com.chess.engine.MoveOrderer;
+import com.chess.pgn.FenUtilities;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveOrdererTest {
+
+    @Test
+    public void ordersPriorityCapturesKillersThenHistory(){
+        final Board board = FenUtilities.createGameFromFEN("4k3/8/2r1q3/3P4/8/5N2/8/R3K3 w - - 0 1");
+        final List<Move> moves = board.currentPlayer().getLegalMoves();
+        final MoveOrderer orderer = new MoveOrderer();
+
+        Move[] ordered = orderer.order(moves, 3, PackedMove.NO_MOVE);
+        assertEquals(ordered[0].toString(), "dxe6");
+        assertEquals(ordered[1].toString(), "dxc6");
+        assertFalse(ordered[2].isAttack());
+
+        final Move killer = board.findMove(56, 0);
+        final Move quiet = board.findMove(45, 30);
+        orderer.recordCutoff(quiet, 5, 4);
+        orderer.recordCutoff(killer, 3, 2);
+        ordered = orderer.order(moves, 3, PackedMove.fromMove(quiet));
+        assertEquals(ordered[0], quiet);
+        assertEquals(ordered[1].toString(), "dxe6");
+        assertEquals(ordered[3], killer);
+        ordered = orderer.order(moves, 4, PackedMove.NO_MOVE);
+        assertEquals(ordered[2], quiet);
+        assertSame(orderer.order(moves, 4, PackedMove.NO_MOVE), ordered);
+        for(int i = 1 ; i < moves.size() ; i++){
+            assertTrue(moves.contains(ordered[i]));
+        }
+    }
+}
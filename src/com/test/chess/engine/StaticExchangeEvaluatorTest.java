@@ -0,0 +1,44 @@
+package com.test.chess.engine;
+
+import com.chess.board.Board;
+import com.chess.engine.AlphaBetaSearch;
+import com.chess.engine.MaterialEvaluator;
+import com.chess.engine.QuiescenceSearch;
+import com.chess.engine.SearchResult;
+import com.chess.engine.StaticExchangeEvaluator;
+import com.chess.pgn.FenUtilities;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticExchangeEvaluatorTest {
+
+    @Test
+    public void resolvesExchangesAndQuiescence(){
+        final Board defendedPawn = FenUtilities.createGameFromFEN("4k3/8/4p3/3p4/8/8/3R4/4K3 w - - 0 1");
+        assertEquals(StaticExchangeEvaluator.evaluate(defendedPawn.findMove(51, 27)), -400);
+        assertTrue(StaticExchangeEvaluator.isLosing(defendedPawn.findMove(51, 27)));
+
+        final Board batteries = FenUtilities.createGameFromFEN("4k3/3r4/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+        assertEquals(StaticExchangeEvaluator.evaluate(batteries.findMove(51, 27)), 100);
+        assertFalse(StaticExchangeEvaluator.isLosing(batteries.findMove(51, 27)));
+
+        final Board hangingQueen = FenUtilities.createGameFromFEN("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1");
+        assertEquals(StaticExchangeEvaluator.evaluate(hangingQueen.findMove(51, 27)), 900);
+
+        final Board kingDefends = FenUtilities.createGameFromFEN("8/8/3k4/3p4/8/8/3R4/4K3 w - - 0 1");
+        assertEquals(StaticExchangeEvaluator.evaluate(kingDefends.findMove(51, 27)), -400);
+
+        final QuiescenceSearch quiescence = new QuiescenceSearch(new MaterialEvaluator());
+        assertEquals(quiescence.search(hangingQueen, -32000, 32000), 500);
+        assertEquals(quiescence.search(defendedPawn, -32000, 32000), 300);
+        final Board backRankMate = FenUtilities.createGameFromFEN("R5k1/5ppp/8/8/8/8/5PPP/6K1 b - - 0 1");
+        assertEquals(quiescence.search(backRankMate, -32000, 32000, 3), -AlphaBetaSearch.MATE_SCORE + 3);
+        final Board doubledRooksMate = FenUtilities.createGameFromFEN("6k1/5ppp/8/8/8/8/r4PPP/r5K1 w - - 0 1");
+        assertEquals(quiescence.search(doubledRooksMate, -32000, 32000, 0), -AlphaBetaSearch.MATE_SCORE + 0);
+
+        final SearchResult result = new AlphaBetaSearch(new MaterialEvaluator()).search(defendedPawn, 1);
+        assertFalse(result.getBestMove().toString().equals("Rxd5"));
+        assertEquals(result.getScore(), 300);
+    }
+}
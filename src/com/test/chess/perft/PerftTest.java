@@ -0,0 +1,59 @@
+package com.test.chess.perft;
+
+import com.chess.board.Board;
+import com.chess.board.Position;
+import com.chess.perft.ParallelPerft;
+import com.chess.perft.Perft;
+import com.chess.perft.PerftPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+    @Test
+    public void standardPositionsMatchKnownNodeCounts(){
+        for(final PerftPosition position: PerftPosition.values()){
+            final Board board = position.createBoard();
+            for(int depth = 1 ; depth <= 3 ; depth++){
+                assertEquals(Perft.perft(board, depth), position.getExpectedNodes(depth), position + " depth " + depth);
+            }
+        }
+    }
+
+    @Test
+    public void legalGeneratorMatchesKnownNodeCounts(){
+        for(final PerftPosition position: PerftPosition.values()){
+            final Position mutable = new Position(position.createBoard());
+            for(int depth = 1 ; depth <= 4 ; depth++){
+                assertEquals(Perft.perft(mutable, depth), position.getExpectedNodes(depth), position + " depth " + depth);
+            }
+        }
+    }
+
+    @Test
+    public void divideSumsToPerft(){
+        final Board board = PerftPosition.ENDGAME.createBoard();
+        final Map<String, Long> divide = Perft.divide(board, 3);
+        long total = 0L;
+        for(final long nodes: divide.values()){
+            total += nodes;
+        }
+        assertEquals(divide.size(), 14);
+        assertEquals(total, PerftPosition.ENDGAME.getExpectedNodes(3));
+    }
+
+    @Test
+    public void parallelPerftMatchesSequential(){
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try{
+            for(final PerftPosition position: PerftPosition.values()){
+                assertEquals(ParallelPerft.perft(position.createBoard(), 4, pool), position.getExpectedNodes(4), position.toString());
+            }
+        }finally{
+            pool.shutdown();
+        }
+    }
+}
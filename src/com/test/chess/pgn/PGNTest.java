@@ -0,0 +1,107 @@
+package com.test.chess.pgn;
+
+import com.chess.board.Board;
+import com.chess.board.GameStatus;
+import com.chess.pgn.FenUtilities;
+import com.chess.pgn.GameReplayResult;
+import com.chess.pgn.ParallelPGNReplay;
+import com.chess.pgn.PGNGame;
+import com.chess.pgn.PGNReader;
+import com.chess.pgn.PGNUtilities;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PGNTest {
+    private static final String GAMES =
+            "[Event \"Paris Opera\"]\n[White \"Morphy, Paul\"]\n[Black \"Duke Karl / Count Isouard\"]\n[Result \"1-0\"]\n\n" +
+            "1. e4 e5 2. Nf3 d6 3. d4 Bg4 {This is a weak move} 4. dxe5 Bxf3 5. Qxf3 dxe5 6. Bc4 Nf6 7. Qb3 Qe7\n" +
+            "8. Nc3 c6 9. Bg5 b5 $2 10. Nxb5 cxb5 11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7 (13... Nxd7 14. Qb8+) 14. Rd1 Qe6\n" +
+            "15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0\n\n" +
+            "[Event \"En passant\"]\n[White \"A\"]\n[Black \"B\"]\n\n" +
+            "1. e4 Nf6 2. e5 d5 3. exd6 ; captures en passant\n3... exd6 4. Qh5 g6 5. Qe2+ Be7 *\n";
+    private static final String ILLEGAL_GAME = "[Event \"Illegal\"]\n\n1. e4 e5 2. Ke3 0-1\n\n";
+
+    @Test
+    public void readsAndReplaysGames() throws IOException {
+        final Path file = Files.createTempFile("games", ".pgn");
+        try{
+            Files.write(file, GAMES.getBytes(StandardCharsets.UTF_8));
+            try(final PGNReader reader = PGNReader.open(file, 512)){
+                assertTrue(reader.hasNext());
+                final PGNGame opera = reader.next();
+                assertEquals(opera.getTag("White"), "Morphy, Paul");
+                assertEquals(opera.getOutcome(), "1-0");
+                assertEquals(opera.getMoves().size(), 33);
+                assertEquals(PGNUtilities.replayToEnd(opera).getGameStatus(), GameStatus.CHECKMATE);
+                final String moveText = PGNUtilities.toMoveText(PGNUtilities.replay(opera), opera.getOutcome());
+                assertTrue(moveText.startsWith("1. e4 e5 2. Nf3 d6 3. d4 Bg4 4. dxe5 Bxf3 5. Qxf3 dxe5"));
+                assertTrue(moveText.endsWith("11. Bxb5+ Nbd7 12. O-O-O Rd8 13. Rxd7 Rxd7 14. Rd1 Qe6 15. Bxd7+ Nxd7 16. Qb8+ Nxb8 17. Rd8# 1-0"));
+
+                assertTrue(reader.hasNext());
+                final PGNGame enPassant = reader.next();
+                assertEquals(enPassant.getOutcome(), "*");
+                final Board board = PGNUtilities.replayToEnd(enPassant);
+                assertEquals(FenUtilities.createFENFromGame(board), "rnbqk2r/ppp1bp1p/3p1np1/8/8/8/PPPPQPPP/RNB1KBNR w KQkq - 2 6");
+                assertFalse(reader.hasNext());
+            }
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void percentEscapesOnlyAtLineStart() throws IOException {
+        final Path file = Files.createTempFile("escapes", ".pgn");
+        try{
+            Files.write(file, "%escaped 1. d4\n[Event \"Escape\"]\n\n1. e4 %bad e5 2. Nf3 *\n".getBytes(StandardCharsets.UTF_8));
+            try(final PGNReader reader = PGNReader.open(file)){
+                final PGNGame game = reader.next();
+                assertEquals(game.getTag("Event"), "Escape");
+                assertEquals(game.getMoves().size(), 4);
+                assertEquals(game.getMoves().get(1), "%bad");
+                assertFalse(reader.hasNext());
+            }
+        }finally{
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void parallelReplayKeepsInputOrder() throws IOException {
+        final Path file = Files.createTempFile("database", ".pgn");
+        try{
+            final StringBuilder database = new StringBuilder();
+            for(int i = 0 ; i < 100 ; i++){
+                database.append(i == 70 ? ILLEGAL_GAME : GAMES).append('\n');
+            }
+            Files.write(file, database.toString().getBytes(StandardCharsets.UTF_8));
+            final List<GameReplayResult> results = new ArrayList<>();
+            final ParallelPGNReplay.Summary summary = ParallelPGNReplay.replay(file, 4, new Consumer<GameReplayResult>() {
+                @Override
+                public void accept(final GameReplayResult result) {
+                    results.add(result);
+                }
+            });
+            assertEquals(summary.getGames(), 199L);
+            assertEquals(summary.getIllegalGames(), 1L);
+            for(int i = 0 ; i < results.size() ; i++){
+                assertEquals(results.get(i).getGameNumber(), i + 1L);
+            }
+            assertFalse(results.get(140).isValid());
+            assertEquals(results.get(141).getFinalPosition(), results.get(0).getFinalPosition());
+            assertEquals(results.get(142).getFinalPosition(), results.get(1).getFinalPosition());
+            assertEquals(results.get(198).getPlies(), 10);
+        }finally{
+            Files.delete(file);
+        }
+    }
+}